@@ -0,0 +1,229 @@
+package application;
+
+import application.engine.ProgressService;
+import application.engine.TaskEntry;
+import application.engine.TaskType;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Year-at-a-glance calendar heatmap for one {@link TaskType}, drawn on a single Canvas.
+ * Values come from the daily rollups (one O(log n) read per day), hover is resolved by
+ * arithmetic on the cell grid, and a new log repaints only its own cell.
+ */
+public class ActivityHeatmap extends Region {
+    private static final int ROWS = 7;          // Mon..Sun
+    private static final int WEEKS = 54;        // partial first/last weeks included
+    private static final double GAP_RATIO = 0.18;
+    private static final double LEFT = 28, TOP = 18, YEAR_GAP = 14;
+    private static final DateTimeFormatter TIP_FMT = DateTimeFormatter.ofPattern("EEE, MMM d, yyyy");
+
+    private final ProgressService progress;
+    private final Canvas canvas = new Canvas();
+    private final Label tip = new Label();
+
+    private TaskType type = TaskType.STUDY;
+    private int lastYear = LocalDate.now().getYear();
+    private int years = 1;
+
+    // values[y][dayOfYear-1], y = 0 for the oldest year shown
+    private long[][] values = new long[0][];
+    private long max = 0;
+    private Color[] palette;
+    private double pitch = 0;
+    private int hoverYear = -1, hoverDay = -1;
+
+    public ActivityHeatmap(ProgressService progress) {
+        this.progress = progress;
+        getStyleClass().add("activity-heatmap");
+        tip.getStyleClass().add("heatmap-tip");
+        tip.setManaged(false);
+        tip.setVisible(false);
+        tip.setMouseTransparent(true);
+        getChildren().addAll(canvas, tip);
+
+        canvas.setOnMouseMoved(e -> hover(e.getX(), e.getY()));
+        canvas.setOnMouseExited(e -> hover(-1, -1));
+        setMinHeight(TOP + ROWS * 10);
+        reload();
+    }
+
+    public void setType(TaskType type) {
+        if (type == null || type == this.type) return;
+        this.type = type;
+        palette = null;
+        reload();
+    }
+
+    /** Shows {@code count} consecutive years ending at {@code lastYear}, oldest on top. */
+    public void setYears(int lastYear, int count) {
+        this.lastYear = lastYear;
+        this.years = Math.max(1, count);
+        reload();
+    }
+
+    /** Re-reads one day after a new log; repaints just that cell unless the colour scale moved. */
+    public void onEntryAdded(TaskEntry e) {
+        if (e == null || e.getType() != type || e.getWhen() == null) return;
+        LocalDate day = e.getWhen().toLocalDate();
+        int y = day.getYear() - firstYear();
+        if (y < 0 || y >= years) return;
+        int idx = day.getDayOfYear() - 1;
+        long v = progress.amountBetween(type, day, day);
+        values[y][idx] = v;
+        if (v > max) {
+            max = v;
+            paintAll();
+        } else {
+            paintCell(y, idx);
+        }
+    }
+
+    /** Full refresh from the rollups, e.g. after switching type or year range. */
+    public void reload() {
+        values = new long[years][];
+        max = 0;
+        for (int y = 0; y < years; y++) {
+            int year = firstYear() + y;
+            values[y] = progress.dailyAmounts(type, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+            for (long v : values[y]) max = Math.max(max, v);
+        }
+        hoverYear = hoverDay = -1;
+        tip.setVisible(false);
+        paintAll();
+    }
+
+    @Override
+    protected void layoutChildren() {
+        double w = snapSizeX(getWidth()), h = snapSizeY(getHeight());
+        if (canvas.getWidth() != w || canvas.getHeight() != h) {
+            canvas.setWidth(w);
+            canvas.setHeight(h);
+            paintAll();
+        }
+        tip.autosize();
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        return TOP + years * (ROWS * 14 + YEAR_GAP);
+    }
+
+    /* --------------------------- Painting --------------------------- */
+
+    private int firstYear() { return lastYear - years + 1; }
+
+    private void paintAll() {
+        double w = canvas.getWidth(), h = canvas.getHeight();
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.clearRect(0, 0, w, h);
+        if (w <= LEFT || h <= TOP) return;
+
+        double byWidth = (w - LEFT) / WEEKS;
+        double byHeight = (h - TOP - (years - 1) * YEAR_GAP) / (years * ROWS);
+        pitch = Math.max(2, Math.floor(Math.min(byWidth, byHeight)));
+
+        g.setFill(Color.gray(0.45));
+        g.setFont(Font.font(10));
+        for (int y = 0; y < years; y++) {
+            double top = blockTop(y);
+            g.fillText(String.valueOf(firstYear() + y), 0, top - 4);
+            g.fillText("M", 2, top + pitch * 0.8);
+            g.fillText("S", 2, top + pitch * 6.8);
+            for (int d = 0; d < values[y].length; d++) paintCell(y, d);
+        }
+    }
+
+    private void paintCell(int y, int dayIdx) {
+        if (pitch <= 0 || y < 0 || y >= values.length || dayIdx < 0 || dayIdx >= values[y].length) return;
+        LocalDate day = LocalDate.ofYearDay(firstYear() + y, dayIdx + 1);
+        int col = weekColumn(day), row = day.getDayOfWeek().getValue() - 1;
+        double x = LEFT + col * pitch, top = blockTop(y) + row * pitch;
+        double size = pitch * (1 - GAP_RATIO);
+
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.clearRect(x, top, pitch, pitch);
+        g.setFill(colorFor(values[y][dayIdx]));
+        g.fillRoundRect(x, top, size, size, size * 0.3, size * 0.3);
+        if (y == hoverYear && dayIdx == hoverDay) {
+            g.setStroke(Color.web("#111827"));
+            g.setLineWidth(1.2);
+            g.strokeRoundRect(x + 0.6, top + 0.6, size - 1.2, size - 1.2, size * 0.3, size * 0.3);
+        }
+    }
+
+    private double blockTop(int y) { return TOP + y * (ROWS * pitch + YEAR_GAP); }
+
+    /** Column of the week containing {@code day}, counted from the week holding Jan 1. */
+    private static int weekColumn(LocalDate day) {
+        int jan1Offset = LocalDate.of(day.getYear(), 1, 1).getDayOfWeek().getValue() - 1;
+        return (day.getDayOfYear() - 1 + jan1Offset) / ROWS;
+    }
+
+    private Color colorFor(long v) {
+        if (palette == null) palette = paletteFor(type);
+        if (v <= 0 || max <= 0) return palette[0];
+        return palette[(int) Math.min(4, Math.ceil(4.0 * v / max))]; // 1..4
+    }
+
+    private static Color[] paletteFor(TaskType type) {
+        Color empty = Color.web("#e5e7eb");
+        Color hi = switch (type) {
+            case STUDY -> Color.web("#6D28D9");
+            case HYDRATION -> Color.web("#0284c7");
+            case BREAK -> Color.web("#d97706");
+        };
+        Color[] out = new Color[5];
+        out[0] = empty;
+        for (int i = 1; i < out.length; i++) out[i] = empty.interpolate(hi, 0.25 + 0.1875 * i);
+        return out;
+    }
+
+    /* --------------------------- Hit testing --------------------------- */
+
+    private void hover(double mx, double my) {
+        int y = -1, d = -1;
+        if (pitch > 0 && mx >= LEFT && my >= TOP) {
+            double blockH = ROWS * pitch + YEAR_GAP;
+            int yi = (int) ((my - TOP) / blockH);
+            double inBlock = (my - TOP) - yi * blockH;
+            int col = (int) ((mx - LEFT) / pitch);
+            int row = (int) (inBlock / pitch);
+            if (yi < years && row < ROWS && col < WEEKS) {
+                int year = firstYear() + yi;
+                int jan1Offset = LocalDate.of(year, 1, 1).getDayOfWeek().getValue() - 1;
+                int idx = col * ROWS + row - jan1Offset;
+                if (idx >= 0 && idx < values[yi].length) { y = yi; d = idx; }
+            }
+        }
+        if (y == hoverYear && d == hoverDay) return;
+
+        int oldY = hoverYear, oldD = hoverDay;
+        hoverYear = y; hoverDay = d;
+        paintCell(oldY, oldD);
+        paintCell(y, d);
+
+        if (y < 0) { tip.setVisible(false); return; }
+        LocalDate day = LocalDate.ofYearDay(firstYear() + y, d + 1);
+        tip.setText(TIP_FMT.format(day) + " — " + values[y][d] + " " + unit());
+        tip.autosize();
+        double tx = Math.min(mx + 12, getWidth() - tip.getWidth());
+        double ty = my - tip.getHeight() - 6 < 0 ? my + 14 : my - tip.getHeight() - 6;
+        tip.relocate(Math.max(0, tx), ty);
+        tip.setVisible(true);
+    }
+
+    private String unit() {
+        return switch (type) {
+            case STUDY, BREAK -> "min";
+            case HYDRATION -> "ml";
+        };
+    }
+}
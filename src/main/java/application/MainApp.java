@@ -1,26 +1,26 @@
 
 package application;
 
+import application.engine.LocalBadgeBridge;
+import application.engine.LocalStore;
+import application.realm.DevReloader;
 import application.theme.Responsive;
 import application.welcome.Navigation;
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
 import javafx.scene.Scene;
-import javafx.scene.text.Font;
 import javafx.stage.Screen;   // <-- needed
 import javafx.stage.Stage;
 
 import java.net.URL;
-import java.util.Objects;
 
 public class MainApp extends Application {
 
+    private Navigation nav;
 
     private static void applyTheme(Scene scene) {
         URL appCss = MainApp.class.getResource("/application/theme/app.css");
         if (appCss != null) {
-            String css = appCss.toExternalForm();
+            String css = DevReloader.shared().stylesheet(appCss);
             if (!scene.getStylesheets().contains(css)) scene.getStylesheets().add(css);
         }
         // Keep realm styles present so map screens look right when navigated to.
@@ -32,24 +32,15 @@ public class MainApp extends Application {
     }
 
     @Override
-    public void start(Stage stage) throws Exception {
-        try {
-            Font.loadFont(getClass().getResourceAsStream("/fonts/HelveticaNeue-Medium.otf"), 12);
-            Font.loadFont(getClass().getResourceAsStream("/fonts/HelveticaNeue-Light.otf"), 12);
-            Font.loadFont(getClass().getResourceAsStream("/fonts/Inter-Medium.otf"), 12);
-        } catch (Throwable ignored) {}
-
-        try { LocalStore.getInstance().loadSafe(); } catch (Throwable ignore) { }
-
-        var fxml = Objects.requireNonNull(
+    public void start(Stage stage) {
+        new StartupPipeline().run(
                 MainApp.class.getResource("/application/welcome/Welcome.fxml"),
-                "Welcome.fxml not found at /application/welcome/Welcome.fxml");
-        var loader = new FXMLLoader(fxml);
-        Parent root = loader.load();
-
-        Scene scene = new Scene(root);
-        applyTheme(scene);
+                MainApp::applyTheme,
+                (scene, controller) -> show(stage, scene, controller),
+                () -> nav.warmUp()); // main screen + realm maps, once badges are evaluated
+    }
 
+    private void show(Stage stage, Scene scene, Object controller) {
         // --- Responsive + sensible initial size ---
         Responsive.attach(scene); // make it responsive
         var bounds = Screen.getPrimary().getVisualBounds();
@@ -65,8 +56,7 @@ public class MainApp extends Application {
         stage.setMinHeight(620);
         stage.show();
 
-        var nav = new Navigation(stage);
-        Object controller = loader.getController();
+        nav = new Navigation(stage);
         try {
             controller.getClass().getMethod("setNavigation", Navigation.class)
                     .invoke(controller, nav);
@@ -74,13 +64,19 @@ public class MainApp extends Application {
             try {
                 controller.getClass().getMethod("setNavigator", Navigation.class)
                         .invoke(controller, nav);
-            } catch (NoSuchMethodException ignored) {}
+            } catch (NoSuchMethodException ignored) {
+            } catch (ReflectiveOperationException e) {
+                e.printStackTrace();
+            }
+        } catch (ReflectiveOperationException e) {
+            e.printStackTrace();
         }
     }
 
     @Override
     public void stop() {
         try { LocalStore.getInstance().saveSafe(); } catch (Throwable ignore) { }
+        try { LocalBadgeBridge.saveDerivedCache(); } catch (Throwable ignore) { }
     }
 
     public static void main(String[] args) { launch(args); }
@@ -1,34 +1,48 @@
 // file: src/main/java/application/MainController.java
 package application;
 
+import application.assets.ImageCache;
+import application.engine.Badge;
+import application.engine.BadgeService;
+import application.engine.CachingProgressService;
+import application.engine.LocalBadgeBridge;
+import application.engine.LocalStore;
+import application.engine.Profile;
+import application.engine.ProgressService;
+import application.engine.Realm;
+import application.engine.StreakService;
+import application.engine.TaskEntry;
+import application.engine.TaskType;
+import application.engine.XpService;
+import application.history.HistoryCells;
+import application.history.HistoryDataSource;
+import application.history.HistoryIndex;
+import application.realm.DevReloader;
 import application.realm.RealmNav;
+import application.realm.RealmPrefetcher;
 import application.services.AvatarService;
-import application.services.BadgeService;
 import application.services.ClasspathAvatarService;
-import application.services.LocalBadgeBridge;
 import javafx.animation.*;
-import javafx.beans.property.ReadOnlyObjectWrapper;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.stage.Stage;
 import javafx.util.Duration;
+import javafx.util.StringConverter;
 
 import java.net.URL;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.time.format.DateTimeFormatter;
 
 
 
@@ -57,9 +71,13 @@ public class MainController {
 
     // Table
     @FXML private TableView<TaskEntry> historyTable;
-    @FXML private TableColumn<TaskEntry, String> colType;
-    @FXML private TableColumn<TaskEntry, Integer> colAmount;
-    @FXML private TableColumn<TaskEntry, String> colWhen;
+    @FXML private TableColumn<TaskEntry, TaskEntry> colType;
+    @FXML private TableColumn<TaskEntry, TaskEntry> colAmount;
+    @FXML private TableColumn<TaskEntry, TaskEntry> colWhen;
+    @FXML private ComboBox<TaskType> historyTypeFilter;
+    @FXML private DatePicker historyFromDate;
+    @FXML private DatePicker historyToDate;
+    @FXML private TextField historyMinAmount;
 
     // Badges & Avatar
     @FXML private ListView<String> badgesList;
@@ -70,18 +88,29 @@ public class MainController {
     @FXML private Label streakDaysLabel;
     @FXML private Label streakMultiplierLabel;
     @FXML private Label streakNextLabel;
-
-    private final ObservableList<TaskEntry> entriesObs = FXCollections.observableArrayList();
+    @FXML private Label weekSummaryLabel;
+    @FXML private ComboBox<TaskType> heatmapTypeBox;
+    @FXML private ComboBox<Integer> heatmapYearsBox;
+    @FXML private StackPane heatmapHost;
+
+    // Paged view over the store's list; rows are only materialized when the table shows them
+    private final HistoryDataSource history = new HistoryDataSource(LocalStore.getInstance().entries());
+    private final HistoryCells historyCells = new HistoryCells();
     private final XpService xpService = new XpService();
 
     // Services
     private AvatarService avatarService = new ClasspathAvatarService();
     private BadgeService badgeService = new LocalBadgeBridge();
+    private final ProgressService progressService = CachingProgressService.shared();
+
+    private ActivityHeatmap heatmap;
 
-    private static final DateTimeFormatter WHEN_FMT = DateTimeFormatter.ofPattern("MMM d, yyyy h:mm a");
+    private static final double AVATAR_PX = 180;
 
     // smooth bar animation guard
     private double lastHeaderProgress = 0.0;
+    // badge progress version currently rendered in badgesList
+    private long shownBadgeVersion = -1;
 
     /** Optional DI from Navigation */
     public void init(AvatarService avatarService, BadgeService badgeService) {
@@ -90,6 +119,16 @@ public class MainController {
         refreshAvatar();
     }
 
+    /** Rebinds a cached main screen to the current save when it is shown again. */
+    public void onShow() {
+        refreshHeader();
+        refreshRealms();
+        refreshAvatar();
+        refreshBadges();
+        refreshStreakUiSafe();
+        RealmPrefetcher.shared().select(selectedRealm());
+    }
+
     @FXML
     public void initialize() {
         // Build realm chips
@@ -105,6 +144,8 @@ public class MainController {
         if (realmPickSide != null) {
             realmPickSide.getItems().setAll(Realm.values());
             realmPickSide.getSelectionModel().select(Realm.ALGORITHMS);
+            // Get the picked realm's map ready while the user is still here.
+            realmPickSide.valueProperty().addListener((o, a, r) -> RealmPrefetcher.shared().select(r));
         }
         if (openMapBtnSide != null) {
             openMapBtnSide.setOnAction(e -> openSelectedRealmMap());
@@ -120,36 +161,26 @@ public class MainController {
         addBtn.setOnAction(e -> onAddTask());
 
         // Table wiring
-        colType.setCellValueFactory(d -> new ReadOnlyObjectWrapper<>(d.getValue().getType().name()));
-        colAmount.setCellValueFactory(d -> new ReadOnlyObjectWrapper<>(d.getValue().getAmount()));
-        colWhen.setCellValueFactory(data ->
-                new ReadOnlyObjectWrapper<>(WHEN_FMT.format(data.getValue().getWhen())));
-        colType.setCellFactory(col -> new TableCell<>() {
-            @Override protected void updateItem(String type, boolean empty) {
-                super.updateItem(type, empty);
-                if (empty || type == null) { setText(null); return; }
-                String icon = switch (type) {
-                    case "STUDY"     -> "📚";
-                    case "HYDRATION" -> "💧";
-                    case "BREAK"     -> "☕";
-                    default -> "•";
-                };
-                setText(icon + "  " + type);
-            }
-        });
-        historyTable.setItems(entriesObs);
+        colType.setCellValueFactory(historyCells::value);
+        colAmount.setCellValueFactory(historyCells::value);
+        colWhen.setCellValueFactory(historyCells::value);
+        colType.setCellFactory(historyCells.typeCells());
+        colAmount.setCellFactory(historyCells.amountCells());
+        colWhen.setCellFactory(historyCells.whenCells());
+        historyTable.setItems(history);
+        historyTable.setSortPolicy(t -> { onHistorySort(); return true; });
         historyTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
         historyTable.getStyleClass().add("dense-table");
         historyTable.setPlaceholder(new Label("No activity yet — log your first task!"));
-
-        // Load data
-        entriesObs.setAll(LocalStore.getInstance().entries());
+        initHistoryFilters();
 
         // Ensure all catalog badges exist and evaluate once against history
         badgeService.ensureDefaults();
         badgeService.evaluateAll();
         refreshBadges();
 
+        initHeatmap();
+
         // Initial UI
         refreshHeader();
         refreshRealms();
@@ -157,11 +188,80 @@ public class MainController {
         refreshAvatar();
         refreshStreakUiSafe();
 
+        RealmPrefetcher.shared().select(selectedRealm());
+
         // keep theme applied if scene swaps
         usernameLabel.sceneProperty().addListener((obs, o, s) -> { if (s != null) ensureAppTheme(s); });
         if (usernameLabel.getScene() != null) ensureAppTheme(usernameLabel.getScene());
     }
 
+    /** Sorting runs on the history worker thread; the table only receives the new row order. */
+    private void onHistorySort() {
+        if (historyTable.getSortOrder().isEmpty()) {
+            history.setSort(null, true);
+            return;
+        }
+        var col = historyTable.getSortOrder().get(0);
+        HistoryIndex.SortKey key = col == colType ? HistoryIndex.SortKey.TYPE
+                : col == colAmount ? HistoryIndex.SortKey.AMOUNT
+                : HistoryIndex.SortKey.WHEN;
+        history.setSort(key, col.getSortType() == TableColumn.SortType.ASCENDING);
+    }
+
+    private void initHistoryFilters() {
+        if (historyTypeFilter == null) return;
+        historyTypeFilter.getItems().add(null); // "All"
+        historyTypeFilter.getItems().addAll(TaskType.values());
+        historyTypeFilter.setPromptText("All types");
+        historyTypeFilter.setButtonCell(new ListCell<>() {
+            @Override protected void updateItem(TaskType t, boolean empty) {
+                super.updateItem(t, empty);
+                setText(empty || t == null ? "All types" : t.name());
+            }
+        });
+        historyTypeFilter.valueProperty().addListener((o, a, b) -> applyHistoryFilter());
+        historyFromDate.valueProperty().addListener((o, a, b) -> applyHistoryFilter());
+        historyToDate.valueProperty().addListener((o, a, b) -> applyHistoryFilter());
+        historyMinAmount.textProperty().addListener((o, a, b) -> applyHistoryFilter());
+    }
+
+    private void applyHistoryFilter() {
+        Integer min = null;
+        try {
+            String txt = historyMinAmount.getText() == null ? "" : historyMinAmount.getText().trim();
+            if (!txt.isEmpty()) min = Integer.parseInt(txt);
+        } catch (NumberFormatException ignored) { }
+        history.setFilter(new HistoryIndex.Filter(historyTypeFilter.getValue(),
+                historyFromDate.getValue(), historyToDate.getValue(), min, null));
+    }
+
+    private void initHeatmap() {
+        if (heatmapHost == null) return;
+        heatmap = new ActivityHeatmap(progressService);
+        heatmapHost.getChildren().setAll(heatmap);
+
+        if (heatmapTypeBox != null) {
+            heatmapTypeBox.getItems().setAll(TaskType.values());
+            heatmapTypeBox.getSelectionModel().select(TaskType.STUDY);
+            heatmapTypeBox.valueProperty().addListener((o, a, t) -> heatmap.setType(t));
+        }
+        if (heatmapYearsBox != null) {
+            // 1..N years back to the first logged day
+            LocalDate first = LocalStore.getInstance().rollups().firstDay();
+            int thisYear = LocalDate.now().getYear();
+            int span = first == null ? 1 : Math.max(1, thisYear - first.getYear() + 1);
+            for (int i = 1; i <= span; i++) heatmapYearsBox.getItems().add(i);
+            heatmapYearsBox.setConverter(new StringConverter<>() {
+                @Override public String toString(Integer n) { return n == null ? "" : (n == 1 ? "This year" : n + " years"); }
+                @Override public Integer fromString(String s) { return null; }
+            });
+            heatmapYearsBox.getSelectionModel().selectFirst();
+            heatmapYearsBox.valueProperty().addListener((o, a, n) -> {
+                if (n != null) heatmap.setYears(thisYear, n);
+            });
+        }
+    }
+
     /* -------------------- Actions -------------------- */
 
     private void onAddTask() {
@@ -175,7 +275,7 @@ public class MainController {
 
 
             LocalStore.getInstance().addEntry(entry);
-            entriesObs.add(entry);
+            history.onAppended(entry);
 
 
             xpService.applyEntry(entry);
@@ -185,6 +285,8 @@ public class MainController {
             refreshRealms();
             refreshAvatar();
             refreshBadges();
+            refreshStreakUiSafe();
+            if (heatmap != null) heatmap.onEntryAdded(entry);
             bounceAvatar();
 
             LocalStore.getInstance().saveSafe();
@@ -194,10 +296,13 @@ public class MainController {
     }
 
     private void openSelectedRealmMap() {
-        Realm realm = (realmPickSide != null && realmPickSide.getValue() != null)
-                ? realmPickSide.getValue() : Realm.ALGORITHMS;
         Stage stage = (Stage) usernameLabel.getScene().getWindow();
-        RealmNav.openMap(stage, realm);
+        RealmNav.openMap(stage, selectedRealm());
+    }
+
+    private Realm selectedRealm() {
+        return (realmPickSide != null && realmPickSide.getValue() != null)
+                ? realmPickSide.getValue() : Realm.ALGORITHMS;
     }
 
     /* -------------------- Refresh helpers -------------------- */
@@ -235,8 +340,8 @@ public class MainController {
         if (avatarView == null) {
             avatarView = new ImageView();
             avatarView.setPreserveRatio(true);
-            avatarView.setFitWidth(180);
-            avatarView.setFitHeight(180);
+            avatarView.setFitWidth(AVATAR_PX);
+            avatarView.setFitHeight(AVATAR_PX);
         }
         if (avatarBox != null && !avatarBox.getChildren().contains(avatarView)) {
             avatarBox.getChildren().clear();
@@ -257,8 +362,8 @@ public class MainController {
                 .collect(Collectors.toSet());
 
         try {
-            URL url = avatarService.selectAvatar(totalXp, unlocked);
-            if (url != null) avatarView.setImage(new Image(url.toExternalForm(), true));
+            URL url = avatarService.selectAvatar(totalXp, unlocked, AVATAR_PX * ImageCache.outputScale());
+            if (url != null) avatarView.setImage(ImageCache.shared().get(url, AVATAR_PX, AVATAR_PX, true));
         } catch (Throwable ignored) { }
 
         StackPane card = new StackPane();
@@ -277,11 +382,24 @@ public class MainController {
     }
 
     private void refreshBadges() {
-        badgesList.getItems().clear();
-        for (var b : LocalStore.getInstance().badges()) {
-            String s = (b.isUnlocked() ? "🏅 " : "🔒 ") + b.getName() + " – " + b.getDescription();
-            badgesList.getItems().add(s);
+        long version = badgeService.progressVersion();
+        var progress = badgeService.progressAll();
+        if (!progress.isEmpty() && version == shownBadgeVersion) return; // nothing moved
+
+        List<String> rows = new ArrayList<>();
+        if (progress.isEmpty()) {
+            for (var b : LocalStore.getInstance().badges()) {
+                rows.add((b.isUnlocked() ? "🏅 " : "🔒 ") + b.getName() + " – " + b.getDescription());
+            }
+        } else {
+            for (var p : progress) {
+                String s = (p.unlocked() ? "🏅 " : "🔒 ") + p.name() + " – " + p.description();
+                if (!p.unlocked()) s += "  (" + p.current() + "/" + p.target() + ")";
+                rows.add(s);
+            }
         }
+        badgesList.getItems().setAll(rows);
+        shownBadgeVersion = version;
     }
 
     private void refreshStreakUiSafe() {
@@ -292,6 +410,17 @@ public class MainController {
             streakMultiplierLabel.setText(String.format("Multiplier: x%.2f", svc.getMultiplier()));
             streakNextLabel.setText("Next Milestone: " + String.valueOf(svc.getNextMilestoneDate()));
         } catch (Throwable ignore) { }
+        refreshWeekSummary();
+    }
+
+    private void refreshWeekSummary() {
+        if (weekSummaryLabel == null) return;
+        LocalDate today = LocalDate.now();
+        LocalDate monday = today.minusDays(today.getDayOfWeek().getValue() - 1L);
+        weekSummaryLabel.setText("This week: "
+                + progressService.amountBetween(TaskType.STUDY, monday, today) + " min study · "
+                + progressService.amountBetween(TaskType.HYDRATION, monday, today) + " ml water · "
+                + progressService.logsBetween(TaskType.BREAK, monday, today) + " breaks");
     }
 
     private void showAlert(String msg) {
@@ -330,7 +459,7 @@ public class MainController {
     /* -------------------- Theme guard -------------------- */
     private void ensureAppTheme(Scene scene) {
         try {
-            String css = getClass().getResource("/application/theme/app.css").toExternalForm();
+            String css = DevReloader.shared().stylesheet(getClass().getResource("/application/theme/app.css"));
             var list = scene.getStylesheets();
             if (!list.contains(css)) list.add(0, css);
         } catch (Exception ignored) { }
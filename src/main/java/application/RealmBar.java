@@ -1,5 +1,8 @@
 package application;
 
+import application.engine.CachingProgressService;
+import application.engine.ProgressService;
+import application.engine.Realm;
 import javafx.animation.FadeTransition;
 import javafx.geometry.Insets;
 import javafx.scene.control.Label;
@@ -12,6 +15,7 @@ public class RealmBar extends HBox {
     private final Label name = new Label();
     private final ProgressBar bar = new ProgressBar(0);
     private final Label level = new Label();
+    private ProgressService.RealmSummary shown;
 
     public RealmBar(Realm realm) {
         this.realm = realm;
@@ -31,10 +35,12 @@ public class RealmBar extends HBox {
     }
 
     public void refresh() {
-        int xp = LocalStore.getInstance().profile().getRealmXp(realm);
-        int lvl = XpService.levelForXp(xp);
-        int into = XpService.xpIntoLevel(xp);
-        int toNext = XpService.xpToNextLevel(xp);
+        var s = CachingProgressService.shared().getRealmSummary(realm);
+        if (s == shown) return; // same snapshot: nothing to redraw or fade
+        shown = s;
+        int lvl = s.level();
+        int into = s.xpInto();
+        int toNext = s.xpToNext();
         int denom = Math.max(1, into + toNext);
         level.setText(toNext == 0 ? ("Lv." + lvl + " (MAX)") : ("Lv." + lvl + " (" + into + "/" + denom + ")"));
         double pct = Math.min(1.0, denom == 0 ? 1.0 : (into / (double) denom));
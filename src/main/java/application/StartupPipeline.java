@@ -0,0 +1,157 @@
+package application;
+
+import application.engine.LocalBadgeBridge;
+import application.engine.LocalStore;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.text.Font;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Cold start as a small dependency graph instead of a straight line on the FX thread:
+ * fonts, the save file and the FXML bytes load in parallel; the Welcome view is built as soon as
+ * the save is in; badge evaluation (from the derived-state cache when it is current) runs alongside
+ * the first frame. Each phase is timed and a report is printed once the first frame has been laid out.
+ */
+final class StartupPipeline {
+
+    /** Wall-clock spans per phase, relative to pipeline start. */
+    static final class Timings {
+        record Phase(String name, long startNanos, long endNanos) {
+            long millis() { return (endNanos - startNanos) / 1_000_000; }
+        }
+
+        private final long t0;
+        private final ConcurrentLinkedQueue<Phase> phases = new ConcurrentLinkedQueue<>();
+
+        Timings(long t0) { this.t0 = t0; }
+
+        <T> T time(String name, Supplier<T> work) {
+            long s = System.nanoTime();
+            try {
+                return work.get();
+            } finally {
+                record(name, s, System.nanoTime());
+            }
+        }
+
+        void record(String name, long startNanos, long endNanos) {
+            phases.add(new Phase(name, startNanos, endNanos));
+        }
+
+        /** One line per phase in start order: offset from t0 and duration, in ms. */
+        String report() {
+            List<Phase> list = new ArrayList<>(phases);
+            list.sort(Comparator.comparingLong(Phase::startNanos));
+            StringBuilder sb = new StringBuilder("[startup]");
+            for (Phase p : list) {
+                sb.append(String.format("%n  %-14s +%5d ms  %5d ms", p.name(), (p.startNanos() - t0) / 1_000_000, p.millis()));
+            }
+            return sb.toString();
+        }
+    }
+
+    private record Loaded(Parent root, Object controller) { }
+
+    private static final String[] FONTS = {
+            "/fonts/HelveticaNeue-Medium.otf", "/fonts/HelveticaNeue-Light.otf", "/fonts/Inter-Medium.otf"
+    };
+
+    private final Timings timings = new Timings(System.nanoTime());
+    private final ExecutorService pool = Executors.newFixedThreadPool(3, r -> {
+        Thread t = new Thread(r, "startup");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * Runs the pipeline. {@code show} receives the Welcome scene and its controller on the FX thread;
+     * {@code ready} runs on the FX thread once derived data (badges) is in place too.
+     */
+    void run(URL welcomeFxml, Consumer<Scene> theme, BiConsumer<Scene, Object> show, Runnable ready) {
+        Objects.requireNonNull(welcomeFxml, "Welcome.fxml not found at /application/welcome/Welcome.fxml");
+
+        var fonts = CompletableFuture.runAsync(() -> timings.time("fonts", () -> {
+            for (String f : FONTS) {
+                try (InputStream in = StartupPipeline.class.getResourceAsStream(f)) {
+                    if (in != null) Font.loadFont(in, 12);
+                } catch (Throwable ignored) { }
+            }
+            return null;
+        }), pool);
+        var store = CompletableFuture.runAsync(() -> timings.time("store", () -> {
+            try { LocalStore.getInstance().loadSafe(); } catch (Throwable ignore) { }
+            return null;
+        }), pool);
+        var fxmlBytes = CompletableFuture.supplyAsync(() -> timings.time("fxml.read", () -> {
+            try (InputStream in = welcomeFxml.openStream()) {
+                return in.readAllBytes();
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to read " + welcomeFxml, e);
+            }
+        }), pool);
+
+        // WelcomeController reads the profile in initialize(), so the view waits for the save.
+        var view = store.thenCombineAsync(fxmlBytes, (v, bytes) -> timings.time("fxml.build", () -> {
+            FXMLLoader loader = new FXMLLoader(welcomeFxml);
+            try {
+                Parent root = loader.load(new ByteArrayInputStream(bytes));
+                return new Loaded(root, loader.getController());
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to load " + welcomeFxml, e);
+            }
+        }), pool);
+
+        var badges = store.thenRunAsync(() -> timings.time("badges", () -> {
+            new LocalBadgeBridge().evaluateAll(); // starts from derived.json when it matches the save
+            return null;
+        }), pool).thenRunAsync(() -> {
+            if (LocalBadgeBridge.derivedCacheStale()) timings.time("derived.cache", () -> {
+                LocalBadgeBridge.saveDerivedCache();
+                return null;
+            });
+        }, pool);
+
+        view.thenCombine(fonts, (v, f) -> v).whenComplete((loaded, err) -> Platform.runLater(() -> {
+            if (err != null) {
+                pool.shutdown();
+                err.printStackTrace();
+                Platform.exit();
+                return;
+            }
+            long s = System.nanoTime();
+            Scene scene = new Scene(loaded.root());
+            theme.accept(scene);
+            Runnable[] once = new Runnable[1];
+            once[0] = () -> {
+                scene.removePostLayoutPulseListener(once[0]);
+                timings.record("first-layout", s, System.nanoTime());
+                badges.whenComplete((b, e) -> Platform.runLater(() -> {
+                    pool.shutdown();
+                    if (e != null) e.printStackTrace();
+                    System.out.println(timings.report());
+                    ready.run();
+                }));
+            };
+            scene.addPostLayoutPulseListener(once[0]);
+            show.accept(scene, loaded.controller());
+            timings.record("show", s, System.nanoTime());
+        }));
+    }
+}
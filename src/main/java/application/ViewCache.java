@@ -0,0 +1,106 @@
+package application;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Loaded FXML views (root + controller) kept across navigations, so switching screens is a
+ * {@code Scene.setRoot} instead of a parse. FXML bytes are read on a background thread; nodes are
+ * only built on the FX thread, one view per turn of the event queue so warming never stalls a frame.
+ * Controllers rebind to current state on show; the cache never re-runs {@code init}.
+ */
+public final class ViewCache {
+
+    public record View<C>(Parent root, C controller) { }
+
+    private static final ViewCache SHARED = new ViewCache();
+
+    public static ViewCache shared() { return SHARED; }
+
+    private final Map<String, View<?>> views = new HashMap<>();        // FX thread only
+    private final Map<String, byte[]> fxmlBytes = new ConcurrentHashMap<>();
+    private final ArrayDeque<Runnable> warmQueue = new ArrayDeque<>(); // FX thread only
+    private boolean warming;
+
+    private ViewCache() { }
+
+    /**
+     * Returns the view for {@code fxml} (plus an optional {@code variant}, e.g. a realm), loading it on
+     * first use and passing the new controller to {@code onCreate}. Must be called on the FX thread.
+     */
+    @SuppressWarnings("unchecked")
+    public <C> View<C> view(String fxml, Object variant, Consumer<C> onCreate) throws IOException {
+        String key = variant == null ? fxml : fxml + "#" + variant;
+        View<C> v = (View<C>) views.get(key);
+        if (v != null) return v;
+
+        URL url = Objects.requireNonNull(ViewCache.class.getResource(fxml), fxml + " missing");
+        FXMLLoader fx = new FXMLLoader(url);
+        byte[] bytes = fxmlBytes.get(fxml);
+        Parent root;
+        try (InputStream in = bytes != null ? new ByteArrayInputStream(bytes) : url.openStream()) {
+            root = fx.load(in);
+        }
+        C controller = fx.getController();
+        if (onCreate != null) onCreate.accept(controller);
+        v = new View<>(root, controller);
+        views.put(key, v);
+        return v;
+    }
+
+    /** Reads the FXML files off the FX thread so later loads only parse from memory. */
+    public void prefetch(String... fxml) {
+        Thread t = new Thread(() -> {
+            for (String path : fxml) {
+                URL url = ViewCache.class.getResource(path);
+                if (url == null || fxmlBytes.containsKey(path)) continue;
+                try (InputStream in = url.openStream()) {
+                    fxmlBytes.put(path, in.readAllBytes());
+                } catch (IOException e) {
+                    System.out.println("[ViewCache] prefetch failed for " + path + ": " + e.getMessage());
+                }
+            }
+        }, "view-prefetch");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    /** Queues a view build on the FX thread; queued builds run one per turn after the current work. */
+    public void warm(Runnable build) {
+        Platform.runLater(() -> {
+            warmQueue.add(build);
+            if (!warming) {
+                warming = true;
+                Platform.runLater(this::warmNext);
+            }
+        });
+    }
+
+    private void warmNext() {
+        Runnable next = warmQueue.poll();
+        if (next == null) { warming = false; return; }
+        try {
+            next.run();
+        } catch (Exception e) {
+            System.out.println("[ViewCache] warm-up failed: " + e.getMessage());
+        }
+        Platform.runLater(this::warmNext);
+    }
+
+    /** Drops a cached view (e.g. after its FXML changed) so the next {@link #view} rebuilds it. */
+    public void evict(String fxml, Object variant) {
+        views.remove(variant == null ? fxml : fxml + "#" + variant);
+    }
+}
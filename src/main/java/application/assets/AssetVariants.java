@@ -0,0 +1,187 @@
+package application.assets;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Mip-style downsampled copies of oversized PNG assets, generated once (first run, in the
+ * background) under {@code ~/.stacked/cache/assets} and reused on every later start.
+ * {@link #resolve(URL, double)} returns the smallest variant whose longer edge still covers the
+ * requested device-pixel size, or the original until the variants exist.
+ * Uses only java.desktop (ImageIO), so it can also run as a build step via {@link #main(String[])}.
+ */
+public final class AssetVariants {
+    private static final int MIN_EDGE = 32;
+    private static final AssetVariants SHARED = new AssetVariants(
+            Paths.get(System.getProperty("user.home"), ".stacked", "cache", "assets"));
+
+    public static AssetVariants shared() { return SHARED; }
+
+    /** Source dimensions plus which halving levels are on disk (level 0 = original). */
+    private static final class Chain {
+        final String stem; final int width; final int height; final int levels;
+        volatile boolean ready;
+        Chain(String stem, int width, int height) {
+            this.stem = stem; this.width = width; this.height = height;
+            int l = 0, edge = Math.max(width, height);
+            while (edge / 2 >= MIN_EDGE) { edge /= 2; l++; }
+            this.levels = l;
+        }
+    }
+
+    private final Path dir;
+    private final Map<String, Chain> chains = new ConcurrentHashMap<>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "asset-variants");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+
+    public AssetVariants(Path dir) { this.dir = dir; }
+
+    /** Smallest variant covering {@code devicePx} on its longer edge; the source itself if none is ready. */
+    public URL resolve(URL source, double devicePx) {
+        if (source == null || devicePx <= 0) return source;
+        Chain c = chain(source);
+        if (c == null || c.levels == 0) return source;
+        if (!c.ready) {
+            schedule(source, c);
+            return source;
+        }
+        int level = 0, edge = Math.max(c.width, c.height);
+        while (level < c.levels && edge / 2 >= devicePx) { edge /= 2; level++; }
+        if (level == 0) return source;
+        try {
+            return variantPath(c, level).toUri().toURL();
+        } catch (IOException e) {
+            return source;
+        }
+    }
+
+    /** Generates every level for the source now (blocking); used by the build step and prefetchers. */
+    public void generate(URL source) throws IOException {
+        Chain c = chain(source);
+        if (c == null || c.levels == 0 || c.ready) return;
+        writeChain(source, c);
+    }
+
+    private void schedule(URL source, Chain c) {
+        worker.execute(() -> {
+            if (c.ready) return;
+            try {
+                writeChain(source, c);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    private synchronized void writeChain(URL source, Chain c) throws IOException {
+        if (c.ready) return;
+        Files.createDirectories(dir);
+        if (!allLevelsOnDisk(c)) {
+            BufferedImage img;
+            try (InputStream in = source.openStream()) { img = ImageIO.read(in); }
+            if (img == null) throw new IOException("Unreadable image: " + source);
+            for (int level = 1; level <= c.levels; level++) {
+                img = halve(img);
+                Path out = variantPath(c, level);
+                if (Files.exists(out)) continue;
+                Path tmp = Files.createTempFile(dir, c.stem, ".tmp");
+                ImageIO.write(img, "png", tmp.toFile());
+                Files.move(tmp, out, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+        c.ready = true;
+    }
+
+    private boolean allLevelsOnDisk(Chain c) {
+        for (int level = 1; level <= c.levels; level++) if (!Files.exists(variantPath(c, level))) return false;
+        return true;
+    }
+
+    private Path variantPath(Chain c, int level) {
+        return dir.resolve(c.stem + "@" + level + ".png");
+    }
+
+    private Chain chain(URL source) {
+        return chains.computeIfAbsent(source.toExternalForm(), k -> {
+            try {
+                int[] wh = pngSize(source);
+                if (wh == null) return null;
+                Chain c = new Chain(stemFor(source), wh[0], wh[1]);
+                if (allLevelsOnDisk(c)) c.ready = true;
+                return c;
+            } catch (IOException e) {
+                return null;
+            }
+        });
+    }
+
+    /** Reads width/height from the PNG IHDR chunk without decoding pixels. */
+    private static int[] pngSize(URL source) throws IOException {
+        try (DataInputStream in = new DataInputStream(source.openStream())) {
+            byte[] sig = new byte[8];
+            in.readFully(sig);
+            if ((sig[0] & 0xff) != 0x89 || sig[1] != 'P' || sig[2] != 'N' || sig[3] != 'G') return null;
+            in.readInt(); // IHDR length
+            in.readInt(); // "IHDR"
+            return new int[]{in.readInt(), in.readInt()};
+        }
+    }
+
+    /** Stable file stem per asset; includes the byte length so a rebuilt asset gets fresh variants. */
+    private static String stemFor(URL source) throws IOException {
+        URLConnection conn = source.openConnection();
+        long len = conn.getContentLengthLong();
+        String name = source.getPath().replaceAll("^.*/", "").replace(".png", "");
+        try {
+            byte[] h = MessageDigest.getInstance("SHA-1")
+                    .digest((source.toExternalForm() + "#" + len).getBytes(StandardCharsets.UTF_8));
+            return name + "-" + HexFormat.of().formatHex(h, 0, 6);
+        } catch (Exception e) {
+            return name + "-" + Integer.toHexString((source.toExternalForm() + len).hashCode());
+        }
+    }
+
+    /** One 2:1 bilinear step; repeated halving keeps quality close to a box filter. */
+    private static BufferedImage halve(BufferedImage src) {
+        int w = Math.max(1, src.getWidth() / 2), h = Math.max(1, src.getHeight() / 2);
+        BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = out.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(src, 0, 0, w, h, null);
+        g.dispose();
+        return out;
+    }
+
+    /** Build-time entry point: pre-generates variants for the given classpath resources. */
+    public static void main(String[] args) throws IOException {
+        for (String res : args) {
+            URL u = AssetVariants.class.getResource(res);
+            if (u == null) { System.err.println("Missing asset: " + res); continue; }
+            shared().generate(u);
+            System.out.println("Variants ready: " + res);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package application.assets;
+
+import javafx.scene.image.Image;
+import javafx.stage.Screen;
+
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Decoded images shared across screens, keyed by URL and target pixel size, with LRU eviction
+ * against a byte budget (width × height × 4). Callers ask for the size they display at, so
+ * small views never hold a full-resolution texture and repeat visits never decode again.
+ */
+public final class ImageCache {
+    private static final long DEFAULT_BUDGET = 96L * 1024 * 1024;
+    private static final ImageCache SHARED = new ImageCache(Long.getLong("stacked.imageCacheBytes", DEFAULT_BUDGET));
+
+    public static ImageCache shared() { return SHARED; }
+
+    private record Key(String url, int width, int height) {}
+
+    private final long budgetBytes;
+    private long usedBytes = 0;
+    private final LinkedHashMap<Key, Image> images = new LinkedHashMap<>(32, 0.75f, true);
+    private final Map<Key, Long> sizes = new LinkedHashMap<>();
+
+    public ImageCache(long budgetBytes) {
+        this.budgetBytes = Math.max(1, budgetBytes);
+    }
+
+    /** Natural-size image (e.g. a map backdrop), decoded in the background on first use. */
+    public Image get(URL url) {
+        return get(url, 0, 0, true);
+    }
+
+    /**
+     * Image decoded straight to fit {@code width × height} logical px at the screen's output scale
+     * (aspect ratio preserved). Zero dimensions mean natural size.
+     */
+    public Image get(URL url, double width, double height, boolean background) {
+        if (url == null) return null;
+        double scale = outputScale();
+        Key key = new Key(url.toExternalForm(), (int) Math.ceil(width * scale), (int) Math.ceil(height * scale));
+        synchronized (this) {
+            Image hit = images.get(key);
+            if (hit != null && !hit.isError()) return hit;
+        }
+
+        Image img = new Image(key.url(), key.width(), key.height(), true, true, background);
+        synchronized (this) {
+            Image raced = images.get(key);
+            if (raced != null && !raced.isError()) return raced;
+            images.put(key, img);
+            account(key, estimateBytes(img, key));
+        }
+        if (background && img.getProgress() < 1.0) {
+            // Natural-size decodes only learn their real footprint once loaded.
+            img.progressProperty().addListener((o, a, p) -> {
+                if (p.doubleValue() >= 1.0) synchronized (this) {
+                    if (images.get(key) == img) account(key, estimateBytes(img, key));
+                }
+            });
+        }
+        return img;
+    }
+
+    /** True if a decode for this URL/size is already cached (used by prefetchers to skip work). */
+    public synchronized boolean contains(URL url, double width, double height) {
+        if (url == null) return false;
+        double scale = outputScale();
+        return images.containsKey(new Key(url.toExternalForm(), (int) Math.ceil(width * scale), (int) Math.ceil(height * scale)));
+    }
+
+    public synchronized long usedBytes() { return usedBytes; }
+
+    public long budgetBytes() { return budgetBytes; }
+
+    public synchronized void clear() {
+        images.clear();
+        sizes.clear();
+        usedBytes = 0;
+    }
+
+    private void account(Key key, long bytes) {
+        Long old = sizes.put(key, bytes);
+        usedBytes += bytes - (old == null ? 0 : old);
+        evict();
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Key, Image>> it = images.entrySet().iterator();
+        while (usedBytes > budgetBytes && images.size() > 1 && it.hasNext()) {
+            Key eldest = it.next().getKey();
+            it.remove();
+            Long b = sizes.remove(eldest);
+            if (b != null) usedBytes -= b;
+        }
+    }
+
+    private static long estimateBytes(Image img, Key key) {
+        double w = img.getWidth() > 0 ? img.getWidth() : key.width();
+        double h = img.getHeight() > 0 ? img.getHeight() : key.height();
+        return (long) Math.max(1, w) * (long) Math.max(1, h) * 4L;
+    }
+
+    /** Longest edge of the primary screen's visual bounds in device px; the most a full-bleed image can cover. */
+    public static double screenEdgePx() {
+        try {
+            var b = Screen.getPrimary().getVisualBounds();
+            return Math.max(b.getWidth(), b.getHeight()) * outputScale();
+        } catch (Throwable t) {
+            return 1920;
+        }
+    }
+
+    /** HiDPI factor of the primary screen; 1.0 when no screen is available. */
+    public static double outputScale() {
+        try {
+            return Math.max(1.0, Screen.getPrimary().getOutputScaleX());
+        } catch (Throwable t) {
+            return 1.0;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package application.engine;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+
+/**
+ * One bit per active day, keyed by epoch day. Streak questions become run lookups
+ * on the bitset (word-level scans) instead of replays over the entry list.
+ */
+public final class ActivityIndex {
+    private final BitSet days;
+    private int longest;
+
+    public ActivityIndex() { this(new BitSet(), 0); }
+
+    ActivityIndex(BitSet days, int longest) {
+        this.days = days;
+        this.longest = Math.max(longest, 0);
+    }
+
+    /** Marks a day active. Returns false if it already was (or predates 1970). */
+    public synchronized boolean mark(LocalDate day) {
+        int d = index(day);
+        if (d < 0 || days.get(d)) return false;
+        days.set(d);
+        // Runs only ever merge, so the longest run is monotonic.
+        int start = days.previousClearBit(d) + 1;
+        int end = days.nextClearBit(d);
+        longest = Math.max(longest, end - start);
+        return true;
+    }
+
+    public synchronized boolean isActive(LocalDate day) {
+        int d = index(day);
+        return d >= 0 && days.get(d);
+    }
+
+    /** Length of the run that ends exactly on {@code day}; 0 if the day is inactive. */
+    public synchronized int streakEndingAt(LocalDate day) {
+        int d = index(day);
+        if (d < 0 || !days.get(d)) return 0;
+        return d - days.previousClearBit(d);
+    }
+
+    /** Streak still alive on {@code day}: the run ending that day, or the day before if today is not logged yet. */
+    public synchronized int streakAsOf(LocalDate day) {
+        if (day == null) return 0;
+        int s = streakEndingAt(day);
+        return s > 0 ? s : streakEndingAt(day.minusDays(1));
+    }
+
+    public synchronized int longestStreak() { return longest; }
+
+    /** Most recent active day, or null when nothing is recorded. */
+    public synchronized LocalDate lastActive() {
+        return days.isEmpty() ? null : LocalDate.ofEpochDay(days.length() - 1L);
+    }
+
+    /** True if two consecutive active days are at least {@code minDays} apart. */
+    public synchronized boolean hasGapAtLeast(int minDays) {
+        int i = days.nextSetBit(0);
+        while (i >= 0) {
+            int runEnd = days.nextClearBit(i) - 1;
+            int next = days.nextSetBit(runEnd + 1);
+            if (next < 0) return false;
+            if (next - runEnd >= minDays) return true;
+            i = next;
+        }
+        return false;
+    }
+
+    public synchronized int activeDayCount() { return days.cardinality(); }
+
+    public synchronized boolean isEmpty() { return days.isEmpty(); }
+
+    synchronized long[] words() { return days.toLongArray(); }
+
+    private static int index(LocalDate day) {
+        if (day == null) return -1;
+        long e = day.toEpochDay();
+        return (e < 0 || e > Integer.MAX_VALUE - 1) ? -1 : (int) e;
+    }
+}
@@ -0,0 +1,46 @@
+package application.engine;
+
+import com.google.gson.*;
+
+import java.lang.reflect.Type;
+import java.util.BitSet;
+
+/** Stores the activity bitset as raw words, skipping the all-zero words before the first active day. */
+class ActivityIndexAdapter implements JsonSerializer<ActivityIndex>, JsonDeserializer<ActivityIndex> {
+    @Override
+    public JsonElement serialize(ActivityIndex src, Type typeOfSrc, JsonSerializationContext context) {
+        long[] words = src.words();
+        int from = 0;
+        while (from < words.length && words[from] == 0) from++;
+
+        JsonObject o = new JsonObject();
+        o.addProperty("fromWord", from);
+        JsonArray arr = new JsonArray();
+        for (int i = from; i < words.length; i++) arr.add(words[i]);
+        o.add("words", arr);
+        o.addProperty("longest", src.longestStreak());
+        return o;
+    }
+
+    @Override
+    public ActivityIndex deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
+        JsonObject o = json.getAsJsonObject();
+        int from = o.has("fromWord") ? o.get("fromWord").getAsInt() : 0;
+        JsonArray arr = o.has("words") ? o.getAsJsonArray("words") : new JsonArray();
+        long[] words = new long[from + arr.size()];
+        for (int i = 0; i < arr.size(); i++) words[from + i] = arr.get(i).getAsLong();
+        int longest = o.has("longest") ? o.get("longest").getAsInt() : 0;
+        BitSet bits = BitSet.valueOf(words);
+        return new ActivityIndex(bits, longest > 0 || bits.isEmpty() ? longest : longestRun(bits));
+    }
+
+    private static int longestRun(BitSet bits) {
+        int best = 0;
+        for (int i = bits.nextSetBit(0); i >= 0; ) {
+            int end = bits.nextClearBit(i);
+            best = Math.max(best, end - i);
+            i = bits.nextSetBit(end);
+        }
+        return best;
+    }
+}
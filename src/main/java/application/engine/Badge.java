@@ -1,4 +1,4 @@
-package application;
+package application.engine;
 
 public class Badge {
     private String id;
@@ -0,0 +1,168 @@
+package application.engine;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Running totals behind every badge rule. Entries are folded in once, in log order,
+ * so unlock checks and "x of N" progress never rescan the history.
+ */
+public final class BadgeAggregates {
+    // How many entries of the store list have been folded in (the list is append-only).
+    private List<TaskEntry> source;
+    private int consumed = 0;
+    private long version = 0;
+
+    private int totalTasks = 0;
+    private int studyLogs = 0;
+    private int studyMinutes = 0;
+    private int longestStudy = 0;
+    private int hydrationLogs = 0;
+    private int breakLogs = 0;
+    private int bestHydrationDay = 0;
+
+    private boolean nightOwl = false;
+    private boolean earlyBird = false;
+    private boolean backToBackStudy = false;
+    private boolean balancedDay = false;
+
+    // Per-day state needed by the "same day" rules.
+    private final Map<LocalDate, Integer> hydrationByDay = new HashMap<>();
+    private final Map<LocalDate, Integer> typesByDay = new HashMap<>();
+    // Chronological neighbours for the back-to-back rule.
+    private final TreeMap<LocalDateTime, TaskType> timeline = new TreeMap<>();
+
+    /** Folds any entries appended since the last call. Returns true if anything changed. */
+    public boolean catchUp(List<TaskEntry> entries) {
+        boolean rebuilt = false;
+        if (entries != source || entries.size() < consumed) { reset(); source = entries; rebuilt = true; }
+        if (entries.size() == consumed) {
+            if (rebuilt) version++;
+            return rebuilt;
+        }
+        for (int i = consumed; i < entries.size(); i++) add(entries.get(i));
+        consumed = entries.size();
+        version++;
+        return true;
+    }
+
+    public long version() { return version; }
+
+    private void add(TaskEntry e) {
+        if (e == null || e.getType() == null || e.getWhen() == null) return;
+        LocalDateTime when = e.getWhen();
+        LocalDate day = when.toLocalDate();
+        TaskType type = e.getType();
+
+        totalTasks++;
+        switch (type) {
+            case STUDY -> {
+                studyLogs++;
+                studyMinutes += Math.max(0, e.getAmount());
+                longestStudy = Math.max(longestStudy, e.getAmount());
+                if (when.getHour() < 5) nightOwl = true;
+            }
+            case HYDRATION -> {
+                hydrationLogs++;
+                int dayTotal = hydrationByDay.merge(day, Math.max(0, e.getAmount()), Integer::sum);
+                bestHydrationDay = Math.max(bestHydrationDay, dayTotal);
+            }
+            case BREAK -> breakLogs++;
+        }
+        if (when.getHour() < 7) earlyBird = true;
+
+        int mask = typesByDay.merge(day, 1 << type.ordinal(), (a, b) -> a | b);
+        if (mask == (1 << TaskType.values().length) - 1) balancedDay = true;
+
+        // Ties keep the earlier-logged entry first, matching a stable sort by time.
+        while (timeline.containsKey(when)) when = when.plusNanos(1);
+        if (!backToBackStudy && type == TaskType.STUDY) {
+            var before = timeline.floorEntry(when);
+            var after = timeline.ceilingEntry(when);
+            if ((before != null && before.getValue() == TaskType.STUDY)
+                    || (after != null && after.getValue() == TaskType.STUDY)) backToBackStudy = true;
+        }
+        timeline.put(when, type);
+    }
+
+    private void reset() {
+        consumed = 0;
+        totalTasks = studyLogs = studyMinutes = longestStudy = 0;
+        hydrationLogs = breakLogs = bestHydrationDay = 0;
+        nightOwl = earlyBird = backToBackStudy = balancedDay = false;
+        hydrationByDay.clear();
+        typesByDay.clear();
+        timeline.clear();
+    }
+
+    /**
+     * Plain copy of the running totals for the derived-state cache. Days are epoch days; the timeline
+     * is epoch nanos (UTC) plus type ordinals and is dropped once the back-to-back rule has fired.
+     */
+    public record State(int consumed,
+                        int totalTasks, int studyLogs, int studyMinutes, int longestStudy,
+                        int hydrationLogs, int breakLogs, int bestHydrationDay,
+                        boolean nightOwl, boolean earlyBird, boolean backToBackStudy, boolean balancedDay,
+                        Map<Long, Integer> hydrationByDay, Map<Long, Integer> typesByDay,
+                        long[] timelineNanos, int[] timelineTypes) { }
+
+    public State state() {
+        Map<Long, Integer> hydration = new HashMap<>();
+        hydrationByDay.forEach((d, v) -> hydration.put(d.toEpochDay(), v));
+        Map<Long, Integer> types = new HashMap<>();
+        if (!balancedDay) typesByDay.forEach((d, v) -> types.put(d.toEpochDay(), v));
+        int n = backToBackStudy ? 0 : timeline.size();
+        long[] nanos = new long[n];
+        int[] kinds = new int[n];
+        if (n > 0) {
+            int i = 0;
+            for (var e : timeline.entrySet()) {
+                nanos[i] = e.getKey().toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + e.getKey().getNano();
+                kinds[i++] = e.getValue().ordinal();
+            }
+        }
+        return new State(consumed, totalTasks, studyLogs, studyMinutes, longestStudy,
+                hydrationLogs, breakLogs, bestHydrationDay,
+                nightOwl, earlyBird, backToBackStudy, balancedDay,
+                hydration, types, nanos, kinds);
+    }
+
+    /** Adopts a cached state that was built from the first {@code s.consumed()} entries of {@code entries}. */
+    public void restore(State s, List<TaskEntry> entries) {
+        reset();
+        source = entries;
+        consumed = s.consumed();
+        totalTasks = s.totalTasks(); studyLogs = s.studyLogs(); studyMinutes = s.studyMinutes();
+        longestStudy = s.longestStudy(); hydrationLogs = s.hydrationLogs(); breakLogs = s.breakLogs();
+        bestHydrationDay = s.bestHydrationDay();
+        nightOwl = s.nightOwl(); earlyBird = s.earlyBird();
+        backToBackStudy = s.backToBackStudy(); balancedDay = s.balancedDay();
+        if (s.hydrationByDay() != null) s.hydrationByDay().forEach((d, v) -> hydrationByDay.put(LocalDate.ofEpochDay(d), v));
+        if (s.typesByDay() != null) s.typesByDay().forEach((d, v) -> typesByDay.put(LocalDate.ofEpochDay(d), v));
+        TaskType[] kinds = TaskType.values();
+        long[] nanos = s.timelineNanos();
+        for (int i = 0; nanos != null && i < nanos.length; i++) {
+            var when = LocalDateTime.ofEpochSecond(Math.floorDiv(nanos[i], 1_000_000_000L),
+                    (int) Math.floorMod(nanos[i], 1_000_000_000L), ZoneOffset.UTC);
+            timeline.put(when, kinds[s.timelineTypes()[i]]);
+        }
+        version++;
+    }
+
+    public int totalTasks() { return totalTasks; }
+    public int studyLogs() { return studyLogs; }
+    public int studyMinutes() { return studyMinutes; }
+    public int longestStudy() { return longestStudy; }
+    public int hydrationLogs() { return hydrationLogs; }
+    public int breakLogs() { return breakLogs; }
+    public int bestHydrationDay() { return bestHydrationDay; }
+    public boolean nightOwl() { return nightOwl; }
+    public boolean earlyBird() { return earlyBird; }
+    public boolean backToBackStudy() { return backToBackStudy; }
+    public boolean balancedDay() { return balancedDay; }
+}
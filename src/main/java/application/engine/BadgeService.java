@@ -0,0 +1,19 @@
+package application.engine;
+
+import java.util.List;
+
+public interface BadgeService {
+    void ensureDefaults();
+    void evaluateAll();
+
+    /** Current/target for one badge; current is clamped to target once reached. */
+    record BadgeProgress(String id, String name, String description, int current, int target, boolean unlocked) {
+        public double fraction() { return target <= 0 ? 1.0 : Math.min(1.0, current / (double) target); }
+    }
+
+    /** Progress for every badge in catalog order; cached until the underlying aggregates change. */
+    default List<BadgeProgress> progressAll() { return List.of(); }
+
+    /** Bumped whenever {@link #progressAll()} would return different values. */
+    default long progressVersion() { return 0; }
+}
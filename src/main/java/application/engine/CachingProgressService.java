@@ -0,0 +1,50 @@
+package application.engine;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link ProgressService} whose realm summaries come from an immutable snapshot. The snapshot is keyed
+ * by the profile instance and its XP version, so a read is a few volatile loads and two compares and
+ * takes no lock, not even the store's, which is held across save I/O. It is rebuilt (and published with
+ * a CAS) only after XP changed or a different save was loaded.
+ */
+public final class CachingProgressService extends LocalProgressBridge {
+
+    private record Snapshot(Profile profile, long version, List<RealmSummary> all, RealmSummary[] byRealm) { }
+
+    private static final CachingProgressService SHARED = new CachingProgressService();
+
+    public static CachingProgressService shared() { return SHARED; }
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    private CachingProgressService() { }
+
+    @Override public List<RealmSummary> getAllRealmSummaries() {
+        return current().all();
+    }
+
+    @Override public RealmSummary getRealmSummary(Realm realm) {
+        return current().byRealm()[realm.ordinal()];
+    }
+
+    private Snapshot current() {
+        Profile p = LocalStore.getInstance().currentProfile();
+        Snapshot s = snapshot.get();
+        if (s != null && s.profile() == p && s.version() == p.xpVersion()) return s;
+
+        // Read the version before the XP values: a concurrent bump then only makes this snapshot look stale.
+        long version = p.xpVersion();
+        Realm[] realms = Realm.values();
+        RealmSummary[] byRealm = new RealmSummary[realms.length];
+        for (Realm r : realms) {
+            int xp = p.getRealmXp(r);
+            byRealm[r.ordinal()] = new RealmSummary(r, xp, XpService.levelForXp(xp),
+                    XpService.xpIntoLevel(xp), XpService.xpToNextLevel(xp));
+        }
+        Snapshot next = new Snapshot(p, version, List.of(byRealm), byRealm);
+        snapshot.compareAndSet(s, next); // losing the race is fine: the winner is at least as new
+        return next;
+    }
+}
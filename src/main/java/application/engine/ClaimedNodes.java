@@ -0,0 +1,78 @@
+package application.engine;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Claimed realm-map nodes, one bitset per realm indexed by node ordinal. Ordinals come from
+ * {@link NodeOrdinals}, which pins each pack node id to one for good.
+ */
+public final class ClaimedNodes {
+    private final EnumMap<Realm, BitSet> bits = new EnumMap<>(Realm.class);
+
+    public synchronized boolean isClaimed(Realm realm, int ordinal) {
+        BitSet b = bits.get(realm);
+        return ordinal >= 0 && b != null && b.get(ordinal);
+    }
+
+    /** Returns true if the node was not claimed before. */
+    public synchronized boolean claim(Realm realm, int ordinal) {
+        if (realm == null || ordinal < 0) return false;
+        BitSet b = bits.computeIfAbsent(realm, r -> new BitSet());
+        if (b.get(ordinal)) return false;
+        b.set(ordinal);
+        return true;
+    }
+
+    public synchronized int count(Realm realm) {
+        BitSet b = bits.get(realm);
+        return b == null ? 0 : b.cardinality();
+    }
+
+    public synchronized int total() {
+        int n = 0;
+        for (BitSet b : bits.values()) n += b.cardinality();
+        return n;
+    }
+
+    /** Copy of the realm's claimed ordinals; safe to read off-lock. */
+    public synchronized BitSet snapshot(Realm realm) {
+        BitSet b = bits.get(realm);
+        return b == null ? new BitSet() : (BitSet) b.clone();
+    }
+
+    /** Accepts a legacy {@code "REALM:nodeId"} key; returns false if it cannot be mapped. */
+    synchronized boolean claimLegacy(String key, NodeOrdinals ordinals) {
+        int colon = key == null ? -1 : key.indexOf(':');
+        if (colon <= 0) return false;
+        Realm realm;
+        try {
+            realm = Realm.valueOf(key.substring(0, colon));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        String nodeId = key.substring(colon + 1);
+        if (NodeOrdinals.suffixOrdinal(nodeId) < 0) return false; // only pack-positional ids were ever written
+        int ordinal = ordinals.ordinal(realm, nodeId, extent(realm));
+        if (ordinal < 0) return false;
+        claim(realm, ordinal);
+        return true;
+    }
+
+    /** One past the highest claimed ordinal in the realm; new ordinals start here at the earliest. */
+    synchronized int extent(Realm realm) {
+        BitSet b = bits.get(realm);
+        return b == null ? 0 : b.length();
+    }
+
+    synchronized Map<Realm, long[]> words() {
+        Map<Realm, long[]> out = new EnumMap<>(Realm.class);
+        bits.forEach((r, b) -> { if (!b.isEmpty()) out.put(r, b.toLongArray()); });
+        return out;
+    }
+
+    synchronized void setWords(Realm realm, long[] words) {
+        bits.put(realm, BitSet.valueOf(words));
+    }
+}
@@ -0,0 +1,38 @@
+package application.engine;
+
+import com.google.gson.*;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/** Stores claimed nodes as {@code {"ALGORITHMS": [word, ...]}}; unknown realms are dropped on load. */
+class ClaimedNodesAdapter implements JsonSerializer<ClaimedNodes>, JsonDeserializer<ClaimedNodes> {
+    @Override
+    public JsonElement serialize(ClaimedNodes src, Type typeOfSrc, JsonSerializationContext context) {
+        JsonObject o = new JsonObject();
+        for (Map.Entry<Realm, long[]> e : src.words().entrySet()) {
+            JsonArray arr = new JsonArray();
+            for (long w : e.getValue()) arr.add(w);
+            o.add(e.getKey().name(), arr);
+        }
+        return o;
+    }
+
+    @Override
+    public ClaimedNodes deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
+        ClaimedNodes out = new ClaimedNodes();
+        for (Map.Entry<String, JsonElement> e : json.getAsJsonObject().entrySet()) {
+            Realm realm;
+            try {
+                realm = Realm.valueOf(e.getKey());
+            } catch (IllegalArgumentException ex) {
+                continue;
+            }
+            JsonArray arr = e.getValue().getAsJsonArray();
+            long[] words = new long[arr.size()];
+            for (int i = 0; i < words.length; i++) words[i] = arr.get(i).getAsLong();
+            out.setWords(realm, words);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,204 @@
+package application.engine;
+
+import java.time.LocalDate;
+
+/**
+ * Per-day, per-{@link TaskType} count and amount totals kept in Fenwick (binary indexed) trees,
+ * so any date window can be summed in O(log n) and each new log is an O(log n) update.
+ * Persisted by {@link DailyRollupsAdapter} as the origin plus the non-zero daily values; on load the
+ * trees are rebuilt from those in linear time, never re-derived from entries.
+ */
+public final class DailyRollups {
+    private static final int MIN_CAPACITY = 128;
+    private static final int MAX_CAPACITY = 1 << 16; // ~179 years of days
+    private static final int BACKDATE_SLACK = 32;
+
+    // Epoch day stored at tree position 1; -1 while empty.
+    private long originDay = -1;
+    private int capacity = 0;
+    // [type ordinal][1..capacity], Fenwick layout
+    private long[][] counts = new long[0][];
+    private long[][] sums = new long[0][];
+
+    /** Records one log for its day. */
+    public synchronized void add(TaskEntry e) {
+        if (e == null || e.getType() == null || e.getWhen() == null) return;
+        add(e.getType(), e.getWhen().toLocalDate(), Math.max(0, e.getAmount()));
+    }
+
+    public synchronized void add(TaskType type, LocalDate day, long amount) {
+        if (type == null || day == null) return;
+        ensureTypes();
+        int pos = ensurePosition(day.toEpochDay());
+        if (pos <= 0) return; // absurd date outside the supported window
+        update(counts[type.ordinal()], pos, 1);
+        update(sums[type.ordinal()], pos, amount);
+    }
+
+    /** Total amount (minutes / ml) for the type over [from, to], inclusive. Null type means all types. */
+    public synchronized long sum(TaskType type, LocalDate from, LocalDate to) {
+        return range(sums, type, from, to);
+    }
+
+    /** Number of logs for the type over [from, to], inclusive. Null type means all types. */
+    public synchronized long count(TaskType type, LocalDate from, LocalDate to) {
+        return range(counts, type, from, to);
+    }
+
+    /** Per-day amounts over [from, to]; index 0 is {@code from}. */
+    public synchronized long[] dailySums(TaskType type, LocalDate from, LocalDate to) {
+        int n = (int) Math.max(0, to.toEpochDay() - from.toEpochDay() + 1);
+        long[] out = new long[n];
+        if (originDay < 0 || n == 0) return out;
+        long prev = prefix(sums, type, from.toEpochDay() - 1);
+        for (int i = 0; i < n; i++) {
+            long cur = prefix(sums, type, from.toEpochDay() + i);
+            out[i] = cur - prev;
+            prev = cur;
+        }
+        return out;
+    }
+
+    public synchronized boolean isEmpty() { return originDay < 0; }
+
+    /** First day the trees cover, or null when empty. */
+    public synchronized LocalDate firstDay() { return originDay < 0 ? null : LocalDate.ofEpochDay(originDay); }
+
+    /* --------------------------- Persistence --------------------------- */
+
+    /** Epoch day at tree position 1, or -1 when empty. */
+    synchronized long originDay() { return originDay; }
+
+    synchronized int capacity() { return capacity; }
+
+    /** Per-position daily values ({@code [1..capacity]}) for the type, counts or amounts; O(n). */
+    synchronized long[] daily(TaskType type, boolean amounts) {
+        long[][] trees = amounts ? sums : counts;
+        long[] out = type.ordinal() < trees.length ? trees[type.ordinal()].clone() : new long[capacity + 1];
+        for (int i = capacity; i >= 1; i--) { // undo the linear build, children before parents
+            int parent = i + (i & -i);
+            if (parent <= capacity) out[parent] -= out[i];
+        }
+        return out;
+    }
+
+    /**
+     * Rollups over {@code capacity} days from {@code originDay}, from per-position daily values laid out
+     * like {@link #daily}; the arrays are turned into trees in place. Returns null if the shape is invalid.
+     */
+    static DailyRollups fromDaily(long originDay, int capacity, long[][] dailyCounts, long[][] dailySums) {
+        int types = TaskType.values().length;
+        if (capacity < MIN_CAPACITY || capacity > MAX_CAPACITY || Integer.bitCount(capacity) != 1
+                || dailyCounts.length != types || dailySums.length != types) return null;
+        DailyRollups r = new DailyRollups();
+        r.originDay = originDay;
+        r.capacity = capacity;
+        for (int t = 0; t < types; t++) {
+            if (dailyCounts[t].length != capacity + 1 || dailySums[t].length != capacity + 1) return null;
+            build(dailyCounts[t], capacity);
+            build(dailySums[t], capacity);
+        }
+        r.counts = dailyCounts;
+        r.sums = dailySums;
+        return r;
+    }
+
+    /* --------------------------- Fenwick internals --------------------------- */
+
+    private long range(long[][] trees, TaskType type, LocalDate from, LocalDate to) {
+        if (originDay < 0 || from == null || to == null || to.isBefore(from)) return 0;
+        return prefix(trees, type, to.toEpochDay()) - prefix(trees, type, from.toEpochDay() - 1);
+    }
+
+    /** Sum of all days up to and including {@code epochDay}. */
+    private long prefix(long[][] trees, TaskType type, long epochDay) {
+        long rel = epochDay - originDay + 1;
+        if (rel <= 0) return 0;
+        int pos = (int) Math.min(rel, capacity);
+        if (type != null) return query(trees[type.ordinal()], pos);
+        long total = 0;
+        for (long[] t : trees) total += query(t, pos);
+        return total;
+    }
+
+    private static long query(long[] tree, int pos) {
+        long s = 0;
+        for (int i = pos; i > 0; i -= i & -i) s += tree[i];
+        return s;
+    }
+
+    private static void update(long[] tree, int pos, long delta) {
+        for (int i = pos; i < tree.length; i += i & -i) tree[i] += delta;
+    }
+
+    private void ensureTypes() {
+        int types = TaskType.values().length;
+        if (counts.length >= types) return;
+        counts = grownTypes(counts, types);
+        sums = grownTypes(sums, types);
+    }
+
+    private long[][] grownTypes(long[][] old, int types) {
+        long[][] out = new long[types][];
+        for (int t = 0; t < types; t++) out[t] = t < old.length ? old[t] : new long[capacity + 1];
+        return out;
+    }
+
+    /** Tree position for the day, re-basing or doubling the trees when it falls outside the window; -1 if it cannot fit. */
+    private int ensurePosition(long epochDay) {
+        if (originDay < 0) {
+            originDay = epochDay;
+            resize(originDay, MIN_CAPACITY);
+        } else if (epochDay < originDay) {
+            long newOrigin = epochDay - BACKDATE_SLACK;
+            long needed = originDay - newOrigin + capacity;
+            if (needed > MAX_CAPACITY) return -1;
+            resize(newOrigin, grow(needed));
+        } else if (epochDay - originDay + 1 > capacity) {
+            long needed = epochDay - originDay + 1;
+            if (needed > MAX_CAPACITY) return -1;
+            resize(originDay, grow(needed));
+        }
+        return (int) (epochDay - originDay + 1);
+    }
+
+    private int grow(long needed) {
+        int cap = Math.max(capacity, MIN_CAPACITY);
+        while (cap < needed) cap <<= 1;
+        return cap;
+    }
+
+    /** Moves every tree to a new origin/capacity: unpack to daily values, then linear-time rebuild. Amortized by doubling. */
+    private void resize(long newOrigin, int newCapacity) {
+        for (int t = 0; t < counts.length; t++) {
+            counts[t] = rebased(counts[t], newOrigin, newCapacity);
+            sums[t] = rebased(sums[t], newOrigin, newCapacity);
+        }
+        originDay = newOrigin;
+        capacity = newCapacity;
+    }
+
+    private long[] rebased(long[] tree, long newOrigin, int newCapacity) {
+        long[] out = new long[newCapacity + 1];
+        if (tree != null && capacity > 0) {
+            long shift = originDay - newOrigin;
+            long prev = 0;
+            for (int i = 1; i <= capacity; i++) {
+                long cur = query(tree, i);
+                long target = i + shift;
+                if (target >= 1 && target <= newCapacity) out[(int) target] = cur - prev;
+                prev = cur;
+            }
+        }
+        build(out, newCapacity);
+        return out;
+    }
+
+    /** Daily values at [1..n] → Fenwick tree, in place, in O(n). */
+    private static void build(long[] tree, int n) {
+        for (int i = 1; i <= n; i++) {
+            int parent = i + (i & -i);
+            if (parent <= n) tree[parent] += tree[i];
+        }
+    }
+}
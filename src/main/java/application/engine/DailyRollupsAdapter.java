@@ -0,0 +1,76 @@
+package application.engine;
+
+import com.google.gson.*;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * Stores rollups as {@code {"origin": epochDay, "capacity": n, "types": {"STUDY": {"day": [...],
+ * "count": [...], "sum": [...]}}}}, listing only days with activity ({@code day} is the offset from
+ * origin). The trees are rebuilt from that in O(n). Anything unreadable, including the raw tree arrays
+ * older saves held, loads as empty so the store rebuilds the rollups from entries.
+ */
+class DailyRollupsAdapter implements JsonSerializer<DailyRollups>, JsonDeserializer<DailyRollups> {
+    @Override
+    public JsonElement serialize(DailyRollups src, Type typeOfSrc, JsonSerializationContext context) {
+        JsonObject o = new JsonObject();
+        long origin = src.originDay();
+        if (origin < 0) return o;
+        int capacity = src.capacity();
+        o.addProperty("origin", origin);
+        o.addProperty("capacity", capacity);
+
+        JsonObject types = new JsonObject();
+        for (TaskType type : TaskType.values()) {
+            long[] counts = src.daily(type, false), sums = src.daily(type, true);
+            JsonArray day = new JsonArray(), count = new JsonArray(), sum = new JsonArray();
+            for (int i = 1; i <= capacity; i++) {
+                if (counts[i] == 0 && sums[i] == 0) continue;
+                day.add(i - 1);
+                count.add(counts[i]);
+                sum.add(sums[i]);
+            }
+            if (day.isEmpty()) continue;
+            JsonObject t = new JsonObject();
+            t.add("day", day);
+            t.add("count", count);
+            t.add("sum", sum);
+            types.add(type.name(), t);
+        }
+        o.add("types", types);
+        return o;
+    }
+
+    @Override
+    public DailyRollups deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
+        JsonObject o = json.getAsJsonObject();
+        if (!o.has("origin") || !o.has("capacity")) return new DailyRollups();
+        long origin = o.get("origin").getAsLong();
+        int capacity = o.get("capacity").getAsInt();
+        if (capacity <= 0 || capacity > 1 << 16) return new DailyRollups();
+
+        int types = TaskType.values().length;
+        long[][] counts = new long[types][capacity + 1], sums = new long[types][capacity + 1];
+        JsonObject byType = o.has("types") ? o.getAsJsonObject("types") : new JsonObject();
+        for (Map.Entry<String, JsonElement> e : byType.entrySet()) {
+            TaskType type;
+            try {
+                type = TaskType.valueOf(e.getKey());
+            } catch (IllegalArgumentException ex) {
+                continue;
+            }
+            JsonObject t = e.getValue().getAsJsonObject();
+            JsonArray day = t.getAsJsonArray("day"), count = t.getAsJsonArray("count"), sum = t.getAsJsonArray("sum");
+            if (day.size() != count.size() || day.size() != sum.size()) return new DailyRollups();
+            for (int i = 0; i < day.size(); i++) {
+                int pos = day.get(i).getAsInt() + 1;
+                if (pos < 1 || pos > capacity) return new DailyRollups();
+                counts[type.ordinal()][pos] = count.get(i).getAsLong();
+                sums[type.ordinal()][pos] = sum.get(i).getAsLong();
+            }
+        }
+        DailyRollups r = DailyRollups.fromDaily(origin, capacity, counts, sums);
+        return r != null ? r : new DailyRollups();
+    }
+}
@@ -0,0 +1,51 @@
+package application.engine;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Sidecar file ({@code derived.json} next to save.json) holding state that is expensive to rebuild
+ * from the history. It is only trusted when its key matches the save it was built from: the CRC32
+ * of save.json and the number of entries that were folded in.
+ */
+final class DerivedCache {
+    static final int FORMAT = 1;
+
+    record Contents(int format, long saveCrc, int entries, BadgeAggregates.State badges) { }
+
+    private static final Gson GSON = new Gson();
+
+    private DerivedCache() { }
+
+    /** The cached contents if they were built from exactly this save, otherwise null. */
+    static Contents load(Path file, long saveCrc, int entries) {
+        if (file == null || saveCrc == 0 || !Files.isRegularFile(file)) return null;
+        try {
+            Contents c = GSON.fromJson(Files.readString(file), Contents.class);
+            if (c == null || c.format() != FORMAT || c.saveCrc() != saveCrc || c.entries() != entries
+                    || c.badges() == null || c.badges().consumed() != entries) return null;
+            return c;
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            System.out.println("[DerivedCache] ignoring unreadable " + file.getFileName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** Writes via a temp file so a crash never leaves a half-written cache behind. */
+    static void write(Path file, long saveCrc, BadgeAggregates.State badges) {
+        if (file == null || saveCrc == 0) return;
+        try {
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.createDirectories(file.getParent());
+            Files.writeString(tmp, GSON.toJson(new Contents(FORMAT, saveCrc, badges.consumed(), badges)));
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.out.println("[DerivedCache] write failed: " + e.getMessage());
+        }
+    }
+}
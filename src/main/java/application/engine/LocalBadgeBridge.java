@@ -0,0 +1,249 @@
+package application.engine;
+
+import java.time.*;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+import java.util.stream.Collectors;
+
+public class LocalBadgeBridge implements BadgeService {
+
+    /* --------------------------- Badge catalog --------------------------- */
+    private static final List<Badge> CATALOG = List.of(
+            // Progress
+            new Badge("first_study",           "First Study",          "Log your first study session.", false),
+            new Badge("level_up_5",            "Level Up!",            "Reach level 5 (any realm or global).", false),
+            new Badge("deep_diver_10",         "Deep Diver",           "Reach level 10 in a single realm.", false),
+            new Badge("realm_explorer_3",      "Realm Explorer",       "Unlock 3 different realms.", false),
+
+            // Streak
+            new Badge("streak_7",              "One Week Wonder",      "Log tasks 7 days in a row.", false),
+            new Badge("streak_30",             "Consistency Crown",    "Log tasks 30 days in a row.", false),
+            new Badge("comeback_kid",          "Comeback Kid",         "Resume logging after a 7+ day break.", false),
+
+            // Task variety
+            new Badge("hydration_master_10",   "Hydration Master",     "Log hydration 10 times.", false),
+            new Badge("break_boss_20",         "Break Boss",           "Log 20 breaks.", false),
+            new Badge("balanced_hero_day",     "Balanced Hero",        "Study + Hydration + Break in the same day.", false),
+
+            // Milestones
+            new Badge("century_club_100",      "Century Club",         "Accumulate 100 total tasks.", false),
+            new Badge("marathon_scholar_1000m","Marathon Scholar",     "Accumulate 1,000 study minutes.", false),
+            new Badge("xp_hoarder_1000",       "XP Hoarder",           "Earn 1,000 XP total.", false),
+
+            // Fun/personality
+            new Badge("night_owl",             "Night Owl",            "Study after midnight.", false),
+            new Badge("early_bird",            "Early Bird",           "Log a task before 7 AM.", false),
+            new Badge("double_study_back2back","Double Session",       "Two study tasks back-to-back.", false),
+
+            // Special challenges
+            new Badge("focus_master_60",       "Focus Master",         "Single 60+ minute study session.", false),
+            new Badge("hydration_hero_1l",     "Hydration Hero",       "Drink 1000 ml in a day.", false),
+            new Badge("hydration_over_2l",     "Hydration Overachiever","Drink 2,000 ml in a day.", false),
+            new Badge("badge_collector_10",    "Badge Collector",      "Unlock 10 badges.", false)
+    );
+
+    /* --------------------------- Public API --------------------------- */
+
+    /** Appends missing catalog badges; under the aggregates lock, like every other write to the badge list. */
+    @Override
+    public void ensureDefaults() {
+        synchronized (AGGREGATES) { ensureDefaultsLocked(); }
+    }
+
+    @Override
+    public void evaluateAll() {
+        synchronized (AGGREGATES) {
+            ensureDefaultsLocked(); // make sure all catalog items exist
+            evaluateLocked();
+        }
+    }
+
+    private static void ensureDefaultsLocked() {
+        var store = LocalStore.getInstance();
+        Map<String,Badge> existing = store.badges().stream()
+                .collect(Collectors.toMap(Badge::getId, Function.identity(), (a,b)->a, LinkedHashMap::new));
+
+        for (Badge b : CATALOG) {
+            if (!existing.containsKey(b.getId())) {
+                // copy to preserve order & defaults
+                store.badges().add(new Badge(b.getId(), b.getName(), b.getDescription(), false));
+            }
+        }
+        // Optional: prune old/unknown IDs here if you want strict sync.
+    }
+
+    private static void evaluateLocked() {
+        var store = LocalStore.getInstance();
+        if (!evaluated) restoreFromCache(store);
+        boolean changed = AGGREGATES.catchUp(store.entries());
+
+        Map<String, Badge> byId = badgesById(store);
+        int[] current = currentValues(store.profile());
+        for (int i = 0; i < RULES.size(); i++) {
+            Rule r = RULES.get(i);
+            if (r.id().equals("badge_collector_10")) continue; // meta rule runs last
+            if (current[i] >= r.target()) changed |= unlock(byId, r.id());
+        }
+
+        // Meta
+        long unlockedCount = store.badges().stream().filter(Badge::isUnlocked).count();
+        changed |= unlock(byId, "badge_collector_10", unlockedCount >= 10);
+
+        // Inputs outside the aggregates (XP, active days) move the numbers too.
+        int xp = store.profile().getTotalXp(), activeDays = store.activity().activeDayCount();
+        if (changed || xp != lastXp || activeDays != lastActiveDays || unlockedCount != lastUnlocked) {
+            lastXp = xp; lastActiveDays = activeDays; lastUnlocked = unlockedCount;
+            progressVersion++;
+        }
+        evaluated = true;
+    }
+
+    private static final String CACHE_FILE = "derived.json";
+
+    /** Starts from the sidecar cache when it was built from this exact save; otherwise the next catch-up rebuilds. */
+    private static void restoreFromCache(LocalStore store) {
+        var cached = DerivedCache.load(store.sidecar(CACHE_FILE), store.saveCrc(), store.entries().size());
+        cacheStale = cached == null;
+        if (cached != null) AGGREGATES.restore(cached.badges(), store.entries());
+    }
+
+    /**
+     * Writes the aggregates to the sidecar cache, keyed by the current save. Call right after the store
+     * was saved (or loaded, when the cache was stale) so the key describes the entries folded in.
+     */
+    public static void saveDerivedCache() {
+        var store = LocalStore.getInstance();
+        BadgeAggregates.State state;
+        synchronized (AGGREGATES) {
+            AGGREGATES.catchUp(store.entries());
+            state = AGGREGATES.state();
+            cacheStale = false;
+        }
+        DerivedCache.write(store.sidecar(CACHE_FILE), store.saveCrc(), state);
+    }
+
+    /** True when startup could not use the sidecar cache and it should be rewritten. */
+    public static boolean derivedCacheStale() {
+        synchronized (AGGREGATES) { return cacheStale; }
+    }
+
+    @Override
+    public List<BadgeProgress> progressAll() {
+        synchronized (AGGREGATES) {
+            if (!evaluated) evaluateAll(); // first use builds aggregates once
+            if (progressCache == null || cachedVersion != progressVersion) {
+                progressCache = buildProgress();
+                cachedVersion = progressVersion;
+            }
+            return progressCache;
+        }
+    }
+
+    private static List<BadgeProgress> buildProgress() {
+        var store = LocalStore.getInstance();
+        Map<String, Badge> byId = badgesById(store);
+        int[] current = currentValues(store.profile());
+        long unlockedCount = store.badges().stream().filter(Badge::isUnlocked).count();
+
+        List<BadgeProgress> out = new ArrayList<>(RULES.size());
+        for (int i = 0; i < RULES.size(); i++) {
+            Rule r = RULES.get(i);
+            Badge b = byId.get(r.id());
+            if (b == null) continue;
+            int cur = r.id().equals("badge_collector_10") ? (int) unlockedCount : current[i];
+            out.add(new BadgeProgress(b.getId(), b.getName(), b.getDescription(),
+                    Math.min(r.target(), Math.max(0, cur)), r.target(), b.isUnlocked()));
+        }
+        return List.copyOf(out);
+    }
+
+    @Override
+    public long progressVersion() {
+        synchronized (AGGREGATES) { return progressVersion; }
+    }
+
+    /* --------------------------- Rules --------------------------- */
+
+    /** One badge: unlocked once current reaches target; booleans are modelled as 0/1 of 1. */
+    private record Rule(String id, int target, ToIntBiFunction<BadgeAggregates, Profile> current) {}
+
+    private static int flag(boolean b) { return b ? 1 : 0; }
+
+    // Same order as CATALOG.
+    private static final List<Rule> RULES = List.of(
+            new Rule("first_study",            1,    (a, p) -> a.studyLogs()),
+            new Rule("level_up_5",             5,    (a, p) -> p.level()),
+            new Rule("deep_diver_10",          10,   (a, p) -> realmLevelProgress()), // if you later track per-realm levels, wire here
+            new Rule("realm_explorer_3",       3,    (a, p) -> unlockedRealms()),     // placeholder hook
+
+            new Rule("streak_7",               7,    (a, p) -> StreakService.getInstance().getLongestStreak()),
+            new Rule("streak_30",              30,   (a, p) -> StreakService.getInstance().getLongestStreak()),
+            new Rule("comeback_kid",           1,    (a, p) -> flag(StreakService.getInstance().hasGapAtLeast(7))), // ≥7 day gap followed by a log
+
+            new Rule("hydration_master_10",    10,   (a, p) -> a.hydrationLogs()),
+            new Rule("break_boss_20",          20,   (a, p) -> a.breakLogs()),
+            new Rule("balanced_hero_day",      1,    (a, p) -> flag(a.balancedDay())),
+
+            new Rule("century_club_100",       100,  (a, p) -> a.totalTasks()),
+            new Rule("marathon_scholar_1000m", 1000, (a, p) -> a.studyMinutes()),
+            new Rule("xp_hoarder_1000",        1000, (a, p) -> p.getTotalXp()),
+
+            new Rule("night_owl",              1,    (a, p) -> flag(a.nightOwl())),
+            new Rule("early_bird",             1,    (a, p) -> flag(a.earlyBird())),
+            new Rule("double_study_back2back", 1,    (a, p) -> flag(a.backToBackStudy())),
+
+            new Rule("focus_master_60",        60,   (a, p) -> a.longestStudy()),
+            new Rule("hydration_hero_1l",      1000, (a, p) -> a.bestHydrationDay()),
+            new Rule("hydration_over_2l",      2000, (a, p) -> a.bestHydrationDay()),
+            new Rule("badge_collector_10",     10,   (a, p) -> 0) // computed from unlocked count
+    );
+
+    // Shared across bridge instances so re-created controllers never refold the history.
+    private static final BadgeAggregates AGGREGATES = new BadgeAggregates();
+    private static boolean evaluated = false;
+    private static boolean cacheStale = false;
+    private static long progressVersion = 0;
+    private static int lastXp = -1, lastActiveDays = -1;
+    private static long lastUnlocked = -1;
+    private static long cachedVersion = -1;
+    private static List<BadgeProgress> progressCache;
+
+    private static int[] currentValues(Profile profile) {
+        int[] out = new int[RULES.size()];
+        for (int i = 0; i < out.length; i++) out[i] = RULES.get(i).current().applyAsInt(AGGREGATES, profile);
+        return out;
+    }
+
+    private static Map<String, Badge> badgesById(LocalStore store) {
+        Map<String, Badge> out = new HashMap<>();
+        for (Badge b : store.badges()) out.putIfAbsent(b.getId(), b);
+        return out;
+    }
+
+    /* --------------------------- Helpers --------------------------- */
+
+    private static int realmLevelProgress() {
+        // If you later keep per-realm levels in LocalStore, check them here.
+        // For now, piggyback on global level so it never falsely blocks:
+        return LocalStore.getInstance().profile().level();
+    }
+
+    private static int unlockedRealms() {
+        // Hook where you can compute “unlocked realms” (e.g., any realm XP > 0).
+        // For now, report none to avoid accidental unlocks.
+        return 0;
+    }
+
+    private static boolean unlock(Map<String, Badge> byId, String id) {
+        return unlock(byId, id, true);
+    }
+
+    private static boolean unlock(Map<String, Badge> byId, String id, boolean condition) {
+        if (!condition) return false;
+        Badge b = byId.get(id);
+        if (b == null || b.isUnlocked()) return false;
+        b.setUnlocked(true);
+        return true;
+    }
+}
@@ -1,4 +1,4 @@
-package application;
+package application.engine;
 
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
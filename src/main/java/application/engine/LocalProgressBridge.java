@@ -1,9 +1,6 @@
-package application.services;
-
-import application.LocalStore;
-import application.Realm;
-import application.XpService;
+package application.engine;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,4 +25,16 @@ public class LocalProgressBridge implements ProgressService {
         }
         return out;
     }
-}
\ No newline at end of file
+
+    @Override public long amountBetween(TaskType type, LocalDate from, LocalDate to) {
+        return LocalStore.getInstance().rollups().sum(type, from, to);
+    }
+
+    @Override public long logsBetween(TaskType type, LocalDate from, LocalDate to) {
+        return LocalStore.getInstance().rollups().count(type, from, to);
+    }
+
+    @Override public long[] dailyAmounts(TaskType type, LocalDate from, LocalDate to) {
+        return LocalStore.getInstance().rollups().dailySums(type, from, to);
+    }
+}
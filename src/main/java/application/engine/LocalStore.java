@@ -0,0 +1,186 @@
+package application.engine;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.CRC32;
+
+/**
+ * Minimal local save system. Writes JSON under user home directory.
+ */
+public class LocalStore {
+    private static final LocalStore INSTANCE = new LocalStore();
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
+            .registerTypeAdapter(LocalDate.class, new LocalDateAdapter())
+            .registerTypeAdapter(ActivityIndex.class, new ActivityIndexAdapter())
+            .registerTypeAdapter(DailyRollups.class, new DailyRollupsAdapter())
+            .registerTypeAdapter(ClaimedNodes.class, new ClaimedNodesAdapter())
+            .registerTypeAdapter(NodeOrdinals.class, new NodeOrdinalsAdapter())
+            .setPrettyPrinting()
+            .create();
+
+    private final Path baseDir = Paths.get(System.getProperty("user.home"), ".stacked");
+    private final Path dataFile = baseDir.resolve("save.json");
+
+    private SaveData data = new SaveData();
+    private volatile Profile currentProfile = data.profile; // republished whenever `data` is replaced
+    private boolean persistent = true;
+    private long saveCrc = 0;
+
+    public static LocalStore getInstance() { return INSTANCE; }
+
+    /** CRC32 of save.json as last read or written; 0 before that. Keys caches derived from the save. */
+    public synchronized long saveCrc() { return saveCrc; }
+
+    /** A file next to save.json for caches derived from it, or null when the store is in-memory only. */
+    public Path sidecar(String name) {
+        return persistent ? baseDir.resolve(name) : null;
+    }
+
+    private static long crc(byte[] bytes) {
+        CRC32 c = new CRC32();
+        c.update(bytes);
+        return c.getValue();
+    }
+
+    public synchronized void loadSafe() {
+        try {
+            if (Files.exists(dataFile)) {
+                byte[] bytes = Files.readAllBytes(dataFile);
+                saveCrc = crc(bytes);
+                String json = new String(bytes, StandardCharsets.UTF_8);
+                SaveData loaded = gson.fromJson(json, SaveData.class);
+                if (loaded != null) data = loaded;
+                backfillDerived();
+            } else {
+                initDefaults();
+                saveSafe();
+            }
+        } catch (Exception ex) {
+            backupCorrupt();
+            initDefaults();
+        }
+        currentProfile = data.profile;
+    }
+
+    public synchronized void saveSafe() {
+        if (!persistent) return;
+        try {
+            Files.createDirectories(baseDir);
+            byte[] bytes = gson.toJson(data).getBytes(StandardCharsets.UTF_8);
+            Files.write(dataFile, bytes);
+            saveCrc = crc(bytes);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void backupCorrupt() {
+        try {
+            Files.createDirectories(baseDir);
+            if (Files.exists(dataFile)) {
+                String ts = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+                Files.move(dataFile, baseDir.resolve("save_corrupt_" + ts + ".json"));
+            }
+        } catch (IOException ignored) { }
+    }
+
+    /** Fresh in-memory state that never touches the save file. */
+    public synchronized void resetForTests() {
+        persistent = false;
+        initDefaults();
+    }
+
+    /** Rebuilds indexes missing from saves written by older versions. */
+    private void backfillDerived() {
+        if (data.claimed == null) data.claimed = new ClaimedNodes();
+        if (data.nodeOrdinals == null) data.nodeOrdinals = new NodeOrdinals();
+        if (data.claimedNodeIds != null) {
+            for (String key : data.claimedNodeIds) {
+                if (!data.claimed.claimLegacy(key, data.nodeOrdinals)) System.out.println("Dropping unmappable claim: " + key);
+            }
+            data.claimedNodeIds = null;
+        }
+
+        // Rollups and the activity index read the same entries but write disjoint state; build them side by side.
+        SaveData d = data;
+        if (d.rollups == null) d.rollups = new DailyRollups();
+        CompletableFuture<Void> rollups = d.rollups.isEmpty()
+                ? CompletableFuture.runAsync(() -> { for (TaskEntry e : d.entries) d.rollups.add(e); })
+                : CompletableFuture.completedFuture(null);
+        try {
+            backfillActivity();
+        } finally {
+            rollups.join();
+        }
+    }
+
+    private void backfillActivity() {
+        if (data.activity == null) data.activity = new ActivityIndex();
+        if (!data.activity.isEmpty()) return;
+
+        LocalDate today = LocalDate.now();
+        LocalDate last = data.lastActiveDate;
+        if (last != null) {
+            for (int i = 0; i < data.streakDays; i++) data.activity.mark(last.minusDays(i));
+        }
+        for (TaskEntry e : data.entries) {
+            if (e == null || e.getWhen() == null) continue;
+            LocalDate d = e.getWhen().toLocalDate();
+            if (d.isAfter(today)) continue;
+            data.activity.mark(d);
+            if (last == null || d.isAfter(last)) last = d;
+        }
+        if (last != null) {
+            data.lastActiveDate = last;
+            data.streakDays = data.activity.streakEndingAt(last);
+        }
+    }
+
+    private void initDefaults() {
+        data = new SaveData();
+        currentProfile = data.profile;
+        saveCrc = 0;
+        if (data.badges.isEmpty()) {
+            data.badges.add(new Badge("first_study", "First Study", "Log your first study session", false));
+            data.badges.add(new Badge("hydration_1l", "Hydration Hero", "Drink 1000 ml in a day", false));
+            data.badges.add(new Badge("consistency_3", "Three Day Streak", "Log tasks 3 days in a row", false));
+        }
+    }
+
+    // --- existing getters ---
+    public synchronized Profile profile() { return data.profile; }
+    /** Same as {@link #profile()} without taking the store lock, so hot reads never wait on save I/O. */
+    public Profile currentProfile() { return currentProfile; }
+    public synchronized java.util.List<TaskEntry> entries() { return data.entries; }
+    public synchronized java.util.List<Badge> badges() { return data.badges; }
+    public synchronized Set<String> awardedTaskIds() { return data.awardedTaskIds; }
+    public synchronized ClaimedNodes claimed() { return data.claimed; }
+    /** Claim ordinal for a pack node; assigned on first sight and persisted with the next save. */
+    public synchronized int nodeOrdinal(Realm realm, String nodeId) {
+        return data.nodeOrdinals.ordinal(realm, nodeId, data.claimed.extent(realm));
+    }
+    public synchronized void addEntry(TaskEntry e) { if (e != null) data.entries.add(e); }
+
+    // --- streak persistence ---
+    public synchronized ActivityIndex activity() { return data.activity; }
+    public synchronized DailyRollups rollups() { return data.rollups; }
+    public synchronized LocalDate lastActiveDate() { return data.lastActiveDate; }
+    public synchronized int streakDays() { return data.streakDays; }
+    public synchronized void setStreak(LocalDate lastActive, int days) {
+        data.lastActiveDate = lastActive;
+        data.streakDays = Math.max(0, days);
+        saveSafe();
+    }
+}
\ No newline at end of file
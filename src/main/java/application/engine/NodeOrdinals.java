@@ -0,0 +1,61 @@
+package application.engine;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Append-only map from pack node id to the ordinal its claim bit lives at, one per realm. An id
+ * keeps its ordinal for good, so packs can insert, remove or reorder nodes without moving claims.
+ * A first-seen {@code <prefix>-<n>} id takes ordinal n-1 when that is still free, which is where
+ * saves written before the registry put it; anything else goes past every ordinal in use.
+ */
+public final class NodeOrdinals {
+    private final EnumMap<Realm, Map<String, Integer>> ordinals = new EnumMap<>(Realm.class);
+    private final EnumMap<Realm, BitSet> used = new EnumMap<>(Realm.class);
+
+    /**
+     * Ordinal for {@code nodeId}, assigning one on first sight. New ids never go below {@code floor}
+     * (the realm's claimed-bit extent) unless their suffix says that is where they already were.
+     */
+    synchronized int ordinal(Realm realm, String nodeId, int floor) {
+        if (realm == null || nodeId == null) return -1;
+        Map<String, Integer> ids = ordinals.computeIfAbsent(realm, r -> new LinkedHashMap<>());
+        Integer known = ids.get(nodeId);
+        if (known != null) return known;
+
+        BitSet taken = used.computeIfAbsent(realm, r -> new BitSet());
+        int hint = suffixOrdinal(nodeId);
+        int ord = hint >= 0 && !taken.get(hint) ? hint : Math.max(taken.length(), floor);
+        ids.put(nodeId, ord);
+        taken.set(ord);
+        return ord;
+    }
+
+    /** {@code alg-17} → 16; -1 if the id has no numeric suffix. */
+    static int suffixOrdinal(String nodeId) {
+        int dash = nodeId.lastIndexOf('-');
+        if (dash < 0 || dash == nodeId.length() - 1) return -1;
+        int n = 0;
+        for (int i = dash + 1; i < nodeId.length(); i++) {
+            char c = nodeId.charAt(i);
+            if (c < '0' || c > '9' || n > 1_000_000) return -1;
+            n = n * 10 + (c - '0');
+        }
+        return n - 1;
+    }
+
+    synchronized Map<Realm, Map<String, Integer>> entries() {
+        Map<Realm, Map<String, Integer>> out = new EnumMap<>(Realm.class);
+        ordinals.forEach((r, ids) -> { if (!ids.isEmpty()) out.put(r, new LinkedHashMap<>(ids)); });
+        return out;
+    }
+
+    /** Restores a persisted assignment; used by the adapter only. */
+    synchronized void put(Realm realm, String nodeId, int ordinal) {
+        if (ordinal < 0) return;
+        ordinals.computeIfAbsent(realm, r -> new LinkedHashMap<>()).put(nodeId, ordinal);
+        used.computeIfAbsent(realm, r -> new BitSet()).set(ordinal);
+    }
+}
@@ -0,0 +1,37 @@
+package application.engine;
+
+import com.google.gson.*;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/** Stores node ordinals as {@code {"ALGORITHMS": {"alg-1": 0, ...}}}; unknown realms are dropped on load. */
+class NodeOrdinalsAdapter implements JsonSerializer<NodeOrdinals>, JsonDeserializer<NodeOrdinals> {
+    @Override
+    public JsonElement serialize(NodeOrdinals src, Type typeOfSrc, JsonSerializationContext context) {
+        JsonObject o = new JsonObject();
+        for (Map.Entry<Realm, Map<String, Integer>> e : src.entries().entrySet()) {
+            JsonObject ids = new JsonObject();
+            e.getValue().forEach(ids::addProperty);
+            o.add(e.getKey().name(), ids);
+        }
+        return o;
+    }
+
+    @Override
+    public NodeOrdinals deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
+        NodeOrdinals out = new NodeOrdinals();
+        for (Map.Entry<String, JsonElement> e : json.getAsJsonObject().entrySet()) {
+            Realm realm;
+            try {
+                realm = Realm.valueOf(e.getKey());
+            } catch (IllegalArgumentException ex) {
+                continue;
+            }
+            for (Map.Entry<String, JsonElement> id : e.getValue().getAsJsonObject().entrySet()) {
+                out.put(realm, id.getKey(), id.getValue().getAsInt());
+            }
+        }
+        return out;
+    }
+}
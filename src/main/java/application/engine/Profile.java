@@ -1,4 +1,4 @@
-package application;
+package application.engine;
 
 import java.util.EnumMap;
 import java.util.Map;
@@ -7,6 +7,8 @@ public class Profile {
     private String username = "Player One";
     private int totalXp = 0;
     private final Map<Realm, Integer> realmXp = new EnumMap<>(Realm.class);
+    // Bumped on every XP change so readers can cache derived summaries; not persisted.
+    private transient volatile long xpVersion = 0;
 
     public Profile() {
         for (Realm r : Realm.values()) realmXp.put(r, 0);
@@ -15,9 +17,10 @@ public class Profile {
     public String getUsername() { return username; }
     public void setUsername(String username) { this.username = username; }
     public int getTotalXp() { return totalXp; }
-    public void addTotalXp(int delta) { this.totalXp = Math.max(0, totalXp + Math.max(0, delta)); }
+    public void addTotalXp(int delta) { this.totalXp = Math.max(0, totalXp + Math.max(0, delta)); xpVersion++; }
     public int getRealmXp(Realm r) { return realmXp.getOrDefault(r, 0); }
-    public void addRealmXp(Realm r, int delta) { realmXp.put(r, Math.max(0, getRealmXp(r) + Math.max(0, delta))); }
+    public void addRealmXp(Realm r, int delta) { realmXp.put(r, Math.max(0, getRealmXp(r) + Math.max(0, delta))); xpVersion++; }
+    public long xpVersion() { return xpVersion; }
     public void addXp(int xp) {
         addTotalXp(xp);
     }
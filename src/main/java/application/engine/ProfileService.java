@@ -1,6 +1,4 @@
-package application.services;
-
-import application.Realm;
+package application.engine;
 
 public interface ProfileService {
     String getUsername();
@@ -0,0 +1,36 @@
+package application.engine;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/** Read-only progress API consumed by UI layers (Hub, Realm Map, etc.). */
+public interface ProgressService {
+    /** Overall XP (profile total). */
+    int getTotalXp();
+
+    /** Realm-specific XP (default 0 if not implemented). */
+    default int getRealmXp(Realm realm) { return 0; }
+
+    /** Lightweight summary used by Hub; keep UI-friendly and stable. */
+    record RealmSummary(Realm realm, int realmXp, int level, int xpInto, int xpToNext) {}
+
+    /** Summaries for all realms; default empty for non-Hub contexts. */
+    default List<RealmSummary> getAllRealmSummaries() { return List.of(); }
+
+    /** Summary for one realm, or null if this service has none. */
+    default RealmSummary getRealmSummary(Realm realm) {
+        for (RealmSummary s : getAllRealmSummaries()) if (s.realm() == realm) return s;
+        return null;
+    }
+
+    /** Total logged amount (minutes or ml) for a type over an inclusive date range; null type sums all types. */
+    default long amountBetween(TaskType type, LocalDate from, LocalDate to) { return 0; }
+
+    /** Number of logs for a type over an inclusive date range; null type counts all types. */
+    default long logsBetween(TaskType type, LocalDate from, LocalDate to) { return 0; }
+
+    /** Per-day amounts over an inclusive range (index 0 = from); used by charts. */
+    default long[] dailyAmounts(TaskType type, LocalDate from, LocalDate to) {
+        return new long[(int) Math.max(0, to.toEpochDay() - from.toEpochDay() + 1)];
+    }
+}
@@ -1,4 +1,4 @@
-package application.services;
+package application.engine;
 
 public interface QuickActionService {
     void study25();
@@ -1,4 +1,4 @@
-package application;
+package application.engine;
 
 public enum Realm {
     MEMORY("Memory"),
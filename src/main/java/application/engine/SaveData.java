@@ -0,0 +1,35 @@
+package application.engine;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+class SaveData {
+    Profile profile = new Profile();
+    List<TaskEntry> entries = new ArrayList<>();
+    List<Badge> badges = new ArrayList<>();
+
+    // XP/idempotence
+    Set<String> awardedTaskIds = new HashSet<>();
+
+    // Realm map progress: one bitset per realm, indexed by node ordinal
+    ClaimedNodes claimed = new ClaimedNodes();
+
+    // Append-only pack node id -> ordinal, per realm; null in saves that predate it
+    NodeOrdinals nodeOrdinals = new NodeOrdinals();
+
+    // Legacy "REALM:nodeId" keys; migrated into `claimed` on load, then dropped (null is not written)
+    Set<String> claimedNodeIds = null;
+
+    // Streak (persisted)
+    LocalDate lastActiveDate = null;
+    int streakDays = 0;
+
+    // One bit per active day; backfilled from entries for saves that predate it
+    ActivityIndex activity = new ActivityIndex();
+
+    // Per-day/per-type count and amount trees for stats queries
+    DailyRollups rollups = new DailyRollups();
+}
\ No newline at end of file
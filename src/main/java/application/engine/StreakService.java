@@ -1,4 +1,4 @@
-package application;
+package application.engine;
 
 import java.time.LocalDate;
 
@@ -8,36 +8,40 @@ public final class StreakService {
     private StreakService() { }
     public static StreakService getInstance() { return INSTANCE; }
 
-    /** Updates streak state for the given activity day. Idempotent for same day. */
+    /**
+     * Updates streak state for the given activity day. Idempotent for same day.
+     * Back-dated days are indexed too, so filling a gap heals the current streak.
+     */
     public synchronized void recordActivity(LocalDate day) {
         if (day == null) return;
         LocalStore store = LocalStore.getInstance();
-        LocalDate last = store.lastActiveDate();
-        int days = store.streakDays();
-
-        if (last == null) {
-            store.setStreak(day, 1);
-            store.saveSafe();
-            return;
-        }
-        if (day.isBefore(last)) {
+        if (!store.activity().mark(day)) {
             return;
         }
-        if (day.isEqual(last)) {
-            return;
-        }
-        if (day.isEqual(last.plusDays(1))) {
-            store.setStreak(day, days + 1);
-        } else { // gap
-            store.setStreak(day, 1);
-        }
-        store.saveSafe();
+        LocalDate last = store.lastActiveDate();
+        if (last == null || day.isAfter(last)) last = day;
+        store.setStreak(last, store.activity().streakEndingAt(last));
     }
 
     public int getStreakDays() {
         return Math.max(0, LocalStore.getInstance().streakDays());
     }
 
+    /** Longest run of consecutive active days ever recorded. */
+    public int getLongestStreak() {
+        return LocalStore.getInstance().activity().longestStreak();
+    }
+
+    /** Streak alive on the given date (counts through the day before if that date has no log yet). */
+    public int getStreakAsOf(LocalDate date) {
+        return LocalStore.getInstance().activity().streakAsOf(date);
+    }
+
+    /** True if the history contains a break of at least {@code days} between two active days. */
+    public boolean hasGapAtLeast(int days) {
+        return LocalStore.getInstance().activity().hasGapAtLeast(days);
+    }
+
     public double getMultiplier() {
         int d = getStreakDays();
         double m = 1.0;
@@ -1,4 +1,4 @@
-package application;
+package application.engine;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
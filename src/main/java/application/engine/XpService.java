@@ -1,4 +1,4 @@
-package application;
+package application.engine;
 
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -104,8 +104,8 @@ public class XpService {
             if (store.awardedTaskIds().contains(entry.getId())) return; // already awarded
 
             LocalDate logDay = (entry.getWhen() != null) ? entry.getWhen().toLocalDate() : LocalDate.now();
-            if (logDay.equals(LocalDate.now())) {
-                // Update streak on the first successful award of today
+            if (!logDay.isAfter(LocalDate.now())) {
+                // Index every awarded day; back-dated logs can heal the streak
                 StreakService.getInstance().recordActivity(logDay);
             }
 
@@ -113,6 +113,7 @@ public class XpService {
             Profile profile = store.profile();
             profile.addTotalXp(gained);
             profile.addRealmXp(entry.getType().realm(), gained);
+            store.rollups().add(entry);
 
             store.awardedTaskIds().add(entry.getId());
             store.saveSafe();
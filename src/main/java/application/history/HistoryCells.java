@@ -0,0 +1,75 @@
+package application.history;
+
+import application.engine.TaskEntry;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.util.Callback;
+
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Formatted cell text for history rows, built once per entry and kept in a small LRU.
+ * Scrolling and refreshes reuse the cached strings and value wrapper instead of
+ * re-formatting dates and allocating a wrapper per cell.
+ */
+public final class HistoryCells {
+    private static final DateTimeFormatter WHEN_FMT = DateTimeFormatter.ofPattern("MMM d, yyyy h:mm a");
+    private static final int MAX_ROWS = 2_048; // a few screens of rows either way
+
+    private record Row(String type, String amount, String when, ObservableValue<TaskEntry> value) {}
+
+    private final Map<TaskEntry, Row> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(Map.Entry<TaskEntry, Row> eldest) {
+            return size() > MAX_ROWS;
+        }
+    };
+
+    public ObservableValue<TaskEntry> value(TableColumn.CellDataFeatures<TaskEntry, TaskEntry> d) {
+        return row(d.getValue()).value();
+    }
+
+    public Callback<TableColumn<TaskEntry, TaskEntry>, TableCell<TaskEntry, TaskEntry>> typeCells() {
+        return cells(Row::type);
+    }
+
+    public Callback<TableColumn<TaskEntry, TaskEntry>, TableCell<TaskEntry, TaskEntry>> amountCells() {
+        return cells(Row::amount);
+    }
+
+    public Callback<TableColumn<TaskEntry, TaskEntry>, TableCell<TaskEntry, TaskEntry>> whenCells() {
+        return cells(Row::when);
+    }
+
+    private Callback<TableColumn<TaskEntry, TaskEntry>, TableCell<TaskEntry, TaskEntry>> cells(Function<Row, String> text) {
+        return col -> new TableCell<>() {
+            @Override protected void updateItem(TaskEntry e, boolean empty) {
+                super.updateItem(e, empty);
+                setText(empty || e == null ? null : text.apply(row(e)));
+            }
+        };
+    }
+
+    private Row row(TaskEntry e) {
+        Row r = cache.get(e);
+        if (r == null) {
+            String type = e.getType() == null ? "" : e.getType().name();
+            String icon = switch (type) {
+                case "STUDY"     -> "📚";
+                case "HYDRATION" -> "💧";
+                case "BREAK"     -> "☕";
+                default -> "•";
+            };
+            r = new Row(icon + "  " + type,
+                    String.valueOf(e.getAmount()),
+                    e.getWhen() == null ? "" : WHEN_FMT.format(e.getWhen()),
+                    new ReadOnlyObjectWrapper<>(e));
+            cache.put(e, r);
+        }
+        return r;
+    }
+}
@@ -0,0 +1,108 @@
+package application.history;
+
+import application.engine.TaskEntry;
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Read-only, paged view over the store's entry list for the history table. Nothing is copied:
+ * {@link #get(int)} maps a visible row through an int[] of row indexes (or straight through when
+ * unsorted and unfiltered), so the TableView only touches the rows it actually shows.
+ * Sort and filter queries run on a background thread against {@link HistoryIndex}.
+ */
+public final class HistoryDataSource extends ObservableListBase<TaskEntry> {
+    private static final ExecutorService WORKER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "history-query");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final List<TaskEntry> entries;
+    private int[] rows;          // null = identity over entries
+    private int identitySize;    // entries visible while rows == null
+    private long generation = 0; // newest query wins
+
+    private HistoryIndex.Filter filter = HistoryIndex.Filter.ALL;
+    private HistoryIndex.SortKey sortKey = null;
+    private boolean ascending = true;
+
+    public HistoryDataSource(List<TaskEntry> entries) {
+        this.entries = entries;
+        this.identitySize = entries.size();
+    }
+
+    @Override public TaskEntry get(int index) {
+        return entries.get(rows == null ? index : rows[index]);
+    }
+
+    @Override public int size() {
+        return rows == null ? identitySize : rows.length;
+    }
+
+    public void setFilter(HistoryIndex.Filter filter) {
+        this.filter = filter == null ? HistoryIndex.Filter.ALL : filter;
+        requery();
+    }
+
+    /** Null key restores log order. */
+    public void setSort(HistoryIndex.SortKey key, boolean ascending) {
+        this.sortKey = key;
+        this.ascending = ascending;
+        requery();
+    }
+
+    /** Call after the store appended {@code entry}; cheap when the view is in plain log order. */
+    public void onAppended(TaskEntry entry) {
+        if (rows == null) {
+            int from = identitySize;
+            identitySize = entries.size();
+            if (identitySize > from) {
+                beginChange();
+                nextAdd(from, identitySize);
+                endChange();
+            }
+        } else {
+            requery();
+        }
+    }
+
+    private void requery() {
+        long gen = ++generation;
+        if (filter.isAll() && sortKey == null) {
+            apply(null);
+            return;
+        }
+        var f = filter;
+        var key = sortKey == null ? HistoryIndex.SortKey.WHEN : sortKey;
+        boolean asc = sortKey == null || ascending;
+        WORKER.submit(() -> {
+            int[] result = HistoryIndex.getInstance().query(f, key, asc);
+            Platform.runLater(() -> { if (gen == generation) apply(result); });
+        });
+    }
+
+    private void apply(int[] newRows) {
+        List<TaskEntry> removed = snapshotView();
+        rows = newRows;
+        if (newRows == null) identitySize = entries.size();
+        beginChange();
+        nextRemove(0, removed);
+        if (size() > 0) nextAdd(0, size());
+        endChange();
+    }
+
+    /** Lightweight view of the rows being replaced, so change events never copy the list. */
+    private List<TaskEntry> snapshotView() {
+        final int[] oldRows = rows;
+        final int oldSize = size();
+        return new AbstractList<>() {
+            @Override public TaskEntry get(int i) { return entries.get(oldRows == null ? i : oldRows[i]); }
+            @Override public int size() { return oldSize; }
+        };
+    }
+}
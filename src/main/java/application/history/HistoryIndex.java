@@ -0,0 +1,105 @@
+package application.history;
+
+import application.engine.LocalStore;
+import application.engine.TaskEntry;
+import application.engine.TaskType;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Column-wise sort keys for the history (epoch minute, amount, type) kept in primitive arrays.
+ * Appended lazily off the FX thread; queries sort packed {@code key << 32 | row} longs so a
+ * sort never allocates per-row objects or touches {@link TaskEntry} instances.
+ */
+public final class HistoryIndex {
+    private static final HistoryIndex INSTANCE = new HistoryIndex();
+    public static HistoryIndex getInstance() { return INSTANCE; }
+    private HistoryIndex() { }
+
+    public enum SortKey { WHEN, AMOUNT, TYPE }
+
+    /** Null fields mean "no constraint"; date bounds are inclusive. */
+    public record Filter(TaskType type, LocalDate from, LocalDate to, Integer minAmount, Integer maxAmount) {
+        public static final Filter ALL = new Filter(null, null, null, null, null);
+        public boolean isAll() { return ALL.equals(this); }
+    }
+
+    private List<TaskEntry> source;
+    private int size = 0;
+    private int[] whenMinute = new int[0];
+    private int[] amount = new int[0];
+    private byte[] type = new byte[0];
+
+    /** Row indexes into the store's entry list matching the filter, ordered by key. */
+    public int[] query(Filter filter, SortKey key, boolean ascending) {
+        int n = sync();
+        int[] when, amt; byte[] typ;
+        synchronized (this) { when = whenMinute; amt = amount; typ = type; } // prefix [0,n) is immutable
+
+        int minMinute = filter.from() == null ? Integer.MIN_VALUE : minuteOf(filter.from());
+        int maxMinute = filter.to() == null ? Integer.MAX_VALUE : minuteOf(filter.to().plusDays(1)) - 1;
+        int minAmt = filter.minAmount() == null ? Integer.MIN_VALUE : filter.minAmount();
+        int maxAmt = filter.maxAmount() == null ? Integer.MAX_VALUE : filter.maxAmount();
+        int wantType = filter.type() == null ? -1 : filter.type().ordinal();
+
+        long[] packed = new long[n];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if (wantType >= 0 && typ[i] != wantType) continue;
+            if (when[i] < minMinute || when[i] > maxMinute) continue;
+            if (amt[i] < minAmt || amt[i] > maxAmt) continue;
+            int k = switch (key) {
+                case WHEN -> when[i];
+                case AMOUNT -> amt[i];
+                case TYPE -> typ[i];
+            };
+            // Descending sorts the complemented key, so row ties stay in log order either way.
+            packed[m++] = ((long) (ascending ? k : ~k) << 32) | i;
+        }
+        if (m > 8_192) Arrays.parallelSort(packed, 0, m); else Arrays.sort(packed, 0, m);
+
+        int[] rows = new int[m];
+        for (int i = 0; i < m; i++) rows[i] = (int) packed[i];
+        return rows;
+    }
+
+    /** Extends the key arrays with entries appended since the last call; returns the indexed row count. */
+    private int sync() {
+        LocalStore store = LocalStore.getInstance();
+        synchronized (store) { // addEntry() locks the store, so reads here never race an append
+            List<TaskEntry> entries = store.entries();
+            synchronized (this) {
+                if (entries != source || entries.size() < size) { // store was reloaded or reset
+                    source = entries;
+                    size = 0;
+                }
+                ensureCapacity(entries.size());
+                for (int i = size; i < entries.size(); i++) {
+                    TaskEntry e = entries.get(i);
+                    whenMinute[i] = e.getWhen() == null ? Integer.MIN_VALUE
+                            : (int) (e.getWhen().toEpochSecond(ZoneOffset.UTC) / 60);
+                    amount[i] = e.getAmount();
+                    type[i] = (byte) (e.getType() == null ? -1 : e.getType().ordinal());
+                }
+                size = entries.size();
+                return size;
+            }
+        }
+    }
+
+    private void ensureCapacity(int n) {
+        if (n <= whenMinute.length) return;
+        int cap = Math.max(n, Math.max(64, whenMinute.length * 2));
+        // Copy-on-grow: queries keep reading the old arrays safely.
+        whenMinute = Arrays.copyOf(whenMinute, cap);
+        amount = Arrays.copyOf(amount, cap);
+        type = Arrays.copyOf(type, cap);
+    }
+
+    private static int minuteOf(LocalDate day) {
+        return (int) (day.atStartOfDay().toEpochSecond(ZoneOffset.UTC) / 60);
+    }
+}
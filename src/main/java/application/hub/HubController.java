@@ -1,9 +1,10 @@
 package application.hub;
 
-import application.Realm;
-import application.services.ProfileService;
-import application.services.ProgressService;
-import application.services.QuickActionService;
+import application.engine.ProfileService;
+import application.engine.ProgressService;
+import application.engine.QuickActionService;
+import application.engine.Realm;
+import application.realm.RealmPrefetcher;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
 import javafx.scene.Node;
@@ -72,6 +73,7 @@ public class HubController {
         Button open = new Button("Open");
         open.getStyleClass().add("btn-primary");
         open.setOnAction(e -> { if (nav!=null) nav.openRealm(s.realm()); });
+        card.setOnMouseEntered(e -> RealmPrefetcher.shared().select(s.realm())); // hover is a good hint
         card.getChildren().addAll(name, ring, lvl, open);
         return card;
     }
@@ -1,6 +1,6 @@
 package application.hub;
 
-import application.Realm;
+import application.engine.Realm;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -0,0 +1,155 @@
+package application.realm;
+
+import application.engine.Realm;
+import application.services.ClasspathRealmLayoutBridge;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * Development mode ({@code -Dstacked.devDir=<dir>}): watches {@code <dir>/packs/*.json} and the
+ * theme stylesheets ({@code <dir>/app.css}, {@code <dir>/realm-map.css}). Bursts of file events are
+ * debounced; a changed pack is re-read off the FX thread and open maps patch only the nodes that
+ * differ, a changed stylesheet is swapped into every open scene. Inactive when the property is unset.
+ */
+public final class DevReloader {
+    private static final long DEBOUNCE_MS = 120;
+    private static final List<String> THEMES = List.of("app.css", "realm-map.css");
+    private static final DevReloader SHARED = new DevReloader(ClasspathRealmLayoutBridge.devDir());
+
+    public static DevReloader shared() { return SHARED; }
+
+    private final Path dir;
+    private final List<Consumer<Realm>> packListeners = new CopyOnWriteArrayList<>();
+    private volatile boolean started;
+    private long cssStamp = 0;
+
+    private DevReloader(Path dir) { this.dir = dir; }
+
+    public boolean isActive() { return dir != null; }
+
+    /** Called on the FX thread after {@code realm}'s pack changed; returns a handle that unregisters. */
+    public Runnable onPackChanged(Consumer<Realm> listener) {
+        if (!isActive()) return () -> { };
+        start();
+        packListeners.add(listener);
+        return () -> packListeners.remove(listener);
+    }
+
+    /**
+     * Stylesheet URL to use for a bundled theme file: the dev copy when one exists, else the original.
+     * Scenes built later in the session then pick up edits made earlier.
+     */
+    public String stylesheet(URL bundled) {
+        if (bundled == null) return null;
+        if (!isActive()) return bundled.toExternalForm();
+        start();
+        String name = fileName(bundled.getPath());
+        Path dev = dir.resolve(name);
+        return THEMES.contains(name) && Files.isRegularFile(dev) ? cssUrl(dev) : bundled.toExternalForm();
+    }
+
+    private synchronized void start() {
+        if (started || dir == null) return;
+        started = true;
+        Thread t = new Thread(this::watchLoop, "dev-reload");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    private void watchLoop() {
+        try (WatchService ws = FileSystems.getDefault().newWatchService()) {
+            dir.register(ws, ENTRY_CREATE, ENTRY_MODIFY);
+            Path packs = dir.resolve("packs");
+            if (Files.isDirectory(packs)) packs.register(ws, ENTRY_CREATE, ENTRY_MODIFY);
+            System.out.println("Dev reload watching " + dir.toAbsolutePath());
+
+            while (true) {
+                Set<Path> changed = new HashSet<>();
+                drain(ws.take(), changed);
+                // Editors write in bursts (truncate, write, rename); wait for a quiet gap.
+                WatchKey more;
+                while ((more = ws.poll(DEBOUNCE_MS, TimeUnit.MILLISECONDS)) != null) drain(more, changed);
+                dispatch(changed);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void drain(WatchKey key, Set<Path> into) {
+        Path base = (Path) key.watchable();
+        for (WatchEvent<?> ev : key.pollEvents()) {
+            if (ev.context() instanceof Path p) into.add(base.resolve(p));
+        }
+        key.reset();
+    }
+
+    private void dispatch(Set<Path> changed) {
+        for (Path p : changed) {
+            String name = fileName(p.toString());
+            if (name.endsWith(".json") && p.getParent() != null && p.getParent().endsWith("packs")) {
+                Realm realm = realmOf(name);
+                if (realm == null) continue;
+                long t0 = System.nanoTime();
+                ClasspathRealmLayoutBridge.shared().invalidate(realm);
+                ClasspathRealmLayoutBridge.shared().loadLayout(realm); // parse here, not on the FX thread
+                System.out.printf("Reloaded %s pack in %.1f ms%n", realm, (System.nanoTime() - t0) / 1e6);
+                Platform.runLater(() -> packListeners.forEach(l -> l.accept(realm)));
+            } else if (THEMES.contains(name)) {
+                Platform.runLater(() -> reapplyCss(name, p));
+            }
+        }
+    }
+
+    /** Swaps {@code name} in every open scene for a cache-busted URL of the dev copy. */
+    private void reapplyCss(String name, Path file) {
+        String fresh = cssUrl(file) + "?v=" + (++cssStamp);
+        for (Window w : Window.getWindows()) {
+            Scene scene = w.getScene();
+            if (scene == null) continue;
+            var sheets = scene.getStylesheets();
+            for (int i = 0; i < sheets.size(); i++) {
+                String s = sheets.get(i);
+                int q = s.indexOf('?');
+                if (fileName(q < 0 ? s : s.substring(0, q)).equals(name)) sheets.set(i, fresh);
+            }
+        }
+        System.out.println("Reapplied " + name);
+    }
+
+    private static Realm realmOf(String jsonName) {
+        String key = jsonName.substring(0, jsonName.length() - ".json".length()).toUpperCase(Locale.ROOT);
+        for (Realm r : Realm.values()) if (r.name().equals(key)) return r;
+        return null;
+    }
+
+    private static String cssUrl(Path p) { return p.toAbsolutePath().toUri().toString(); }
+
+    private static String fileName(String path) {
+        int slash = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\'));
+        return path.substring(slash + 1);
+    }
+}
@@ -0,0 +1,59 @@
+package application.realm;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Folds layout/paint invalidations into one pass per pulse. Listeners only set dirty bits;
+ * the pass runs from the scene's post-layout pulse listener, after CSS and layout have settled,
+ * so a resize storm (width, height, layout bounds, image bounds) costs one pass per frame.
+ */
+final class LayoutScheduler {
+    static final int NODES = 1;
+    static final int PATH = 1 << 1;
+    static final int BACKGROUND = 1 << 2;
+    static final int ALL = NODES | PATH | BACKGROUND;
+
+    private final IntConsumer pass;
+    private final Runnable pulse = this::flush;
+    private Scene scene;
+    private int dirty = 0;
+    private long passes = 0;
+
+    LayoutScheduler(Node host, IntConsumer pass) {
+        this.pass = pass;
+        attach(host.getScene());
+        host.sceneProperty().addListener((o, old, now) -> attach(now));
+    }
+
+    void invalidate(int bits) {
+        if ((dirty | bits) == dirty) return;
+        dirty |= bits;
+        if (scene != null) Platform.requestNextPulse();
+    }
+
+    /** Passes run so far; a resize should add one per frame, not one per listener. */
+    long passes() { return passes; }
+
+    private void attach(Scene now) {
+        if (scene == now) return;
+        if (scene != null) scene.removePostLayoutPulseListener(pulse);
+        scene = now;
+        if (scene != null) {
+            scene.addPostLayoutPulseListener(pulse);
+            invalidate(ALL);
+            Platform.requestNextPulse();
+        }
+    }
+
+    private void flush() {
+        int d = dirty;
+        if (d == 0) return;
+        dirty = 0;
+        passes++;
+        pass.accept(d);
+    }
+}
@@ -0,0 +1,74 @@
+package application.realm;
+
+import javafx.application.Platform;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Hands node links to the OS off the FX thread. Each open runs on a virtual thread (the desktop
+ * handoff can block for seconds); repeated activations of the same node are dropped while one is in
+ * flight or within {@link #DEBOUNCE_MS}; failures and timeouts come back as a short message on the
+ * callback executor. A timed-out open is not cancelled, only reported.
+ */
+final class LinkOpener {
+    static final long DEBOUNCE_MS = 600;
+    static final long TIMEOUT_MS = 5_000;
+
+    private static final ExecutorService VIRTUAL = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Executor callbacks;
+    private final Executor worker;
+    private final LongSupplier nanoClock;
+    // Both only touched on the callbacks thread (the FX thread in the app).
+    private final Map<String, Long> lastOpen = new HashMap<>(); // node key → dispatch time
+    private final Set<String> inFlight = new HashSet<>();
+
+    LinkOpener() {
+        this(Platform::runLater, VIRTUAL, System::nanoTime);
+    }
+
+    LinkOpener(Executor callbacks, Executor worker, LongSupplier nanoClock) {
+        this.callbacks = callbacks;
+        this.worker = worker;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Opens {@code url} via {@code opener} unless {@code key} was opened too recently. Returns false if
+     * the request was debounced. {@code report} receives a message only when something went wrong.
+     */
+    boolean open(String key, String url, RealmMapController.ResourceOpener opener, Consumer<String> report) {
+        if (url == null || url.isBlank()) return false;
+        long now = nanoClock.getAsLong();
+        Long last = lastOpen.get(key);
+        if (inFlight.contains(key) || last != null && now - last < TimeUnit.MILLISECONDS.toNanos(DEBOUNCE_MS)) return false;
+        lastOpen.put(key, now);
+        inFlight.add(key);
+
+        CompletableFuture.runAsync(() -> opener.open(url), worker)
+                .orTimeout(TIMEOUT_MS, TimeUnit.MILLISECONDS)
+                .whenCompleteAsync((v, err) -> {
+                    inFlight.remove(key);
+                    if (err == null) return;
+                    Throwable cause = err.getCause() != null ? err.getCause() : err;
+                    if (cause instanceof TimeoutException) {
+                        report.accept("The browser is taking a while to open this link…");
+                    } else {
+                        System.out.println("[LinkOpener] " + url + ": " + cause);
+                        report.accept("Couldn't open link: " + url);
+                    }
+                }, callbacks);
+        return true;
+    }
+}
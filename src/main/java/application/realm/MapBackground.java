@@ -0,0 +1,95 @@
+package application.realm;
+
+import application.assets.ImageCache;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
+import javafx.scene.transform.Transform;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Water gradient + vignette + noise backdrop shared by every realm map. Rendered once per
+ * 64 px size bucket into a {@link WritableImage} and stretched to the exact canvas size, so a
+ * resize (or realm switch) is one {@code drawImage} instead of two gradient fills and a tile loop.
+ * FX thread only.
+ */
+final class MapBackground {
+    private static final int BUCKET = 64;
+    private static final int NOISE_TILE = 128;
+    private static final int MAX_BUCKETS = 3; // full-screen 4K is ~33 MB per bucket
+
+    private static final Map<Long, WritableImage> CACHE = new LinkedHashMap<>(8, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(Map.Entry<Long, WritableImage> eldest) {
+            return size() > MAX_BUCKETS;
+        }
+    };
+    private static Image noiseTile;
+
+    private MapBackground() { }
+
+    static void paint(GraphicsContext g, double w, double h) {
+        g.clearRect(0, 0, w, h);
+        if (w <= 0 || h <= 0) return;
+        int bw = bucket(w), bh = bucket(h);
+        WritableImage img = CACHE.computeIfAbsent(((long) bw << 32) | bh, k -> render(bw, bh));
+        g.drawImage(img, 0, 0, w, h);
+    }
+
+    private static int bucket(double v) {
+        return (int) Math.ceil(v / BUCKET) * BUCKET;
+    }
+
+    private static WritableImage render(int w, int h) {
+        Canvas c = new Canvas(w, h);
+        GraphicsContext g = c.getGraphicsContext2D();
+
+        // Radial water gradient
+        g.setFill(new RadialGradient(0, 0, 0.5, 0.5, 0.9, true, CycleMethod.NO_CYCLE,
+                new Stop(0, Color.web("#0b1530")),
+                new Stop(0.65, Color.web("#0e1a3a")),
+                new Stop(1, Color.web("#0a1228"))));
+        g.fillRect(0, 0, w, h);
+
+        // Soft vignette
+        g.setFill(new RadialGradient(0, 0, 0.5, 0.5, 1.0, true, CycleMethod.NO_CYCLE,
+                new Stop(0.6, Color.TRANSPARENT),
+                new Stop(1.0, Color.color(0, 0, 0, 0.38))));
+        g.fillRect(0, 0, w, h);
+
+        // Subtle noise
+        if (noiseTile == null) noiseTile = makeNoiseTile(NOISE_TILE, NOISE_TILE, new Random(42));
+        g.setGlobalAlpha(0.08);
+        for (int yy = 0; yy < h; yy += NOISE_TILE)
+            for (int xx = 0; xx < w; xx += NOISE_TILE)
+                g.drawImage(noiseTile, xx, yy);
+        g.setGlobalAlpha(1);
+
+        double scale = ImageCache.outputScale();
+        SnapshotParameters sp = new SnapshotParameters();
+        sp.setFill(Color.TRANSPARENT);
+        sp.setTransform(Transform.scale(scale, scale));
+        return c.snapshot(sp, new WritableImage((int) Math.ceil(w * scale), (int) Math.ceil(h * scale)));
+    }
+
+    /** Light grey noise written in one bulk {@code setPixels} call. */
+    private static Image makeNoiseTile(int w, int h, Random rng) {
+        int[] argb = new int[w * h];
+        for (int i = 0; i < argb.length; i++) {
+            int v = 230 + rng.nextInt(25); // very light
+            argb[i] = 0xFF000000 | (v << 16) | (v << 8) | v;
+        }
+        WritableImage img = new WritableImage(w, h);
+        img.getPixelWriter().setPixels(0, 0, w, h, PixelFormat.getIntArgbPreInstance(), argb, 0, w);
+        return img;
+    }
+}
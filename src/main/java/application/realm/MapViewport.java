@@ -0,0 +1,63 @@
+package application.realm;
+
+/**
+ * Zoom and pan state for a realm map, as a scale about the view centre plus a translation in
+ * screen px (the same model as a node's scale/translate properties). Translation is clamped so
+ * the zoomed content always covers the view; at zoom 1 the map sits exactly where it was.
+ */
+final class MapViewport {
+    static final double MIN_ZOOM = 1.0;
+    static final double MAX_ZOOM = 8.0;
+    /** From this zoom on, node titles are drawn for every visible node, not just hover/focus. */
+    static final double LABEL_ZOOM = 2.5;
+
+    private double zoom = 1.0;
+    private double tx = 0, ty = 0;
+    private double viewW = 0, viewH = 0;
+
+    double zoom() { return zoom; }
+    double translateX() { return tx; }
+    double translateY() { return ty; }
+    boolean showAllLabels() { return zoom >= LABEL_ZOOM; }
+
+    /** Returns true if the transform changed. */
+    boolean setViewSize(double w, double h) {
+        if (w == viewW && h == viewH) return false;
+        viewW = w; viewH = h;
+        return clamp();
+    }
+
+    /** Multiplies zoom by {@code factor}, keeping the content point under (px, py) fixed. */
+    boolean zoomAt(double px, double py, double factor) {
+        double z = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom * factor));
+        if (z == zoom) return false;
+        double f = z / zoom;
+        double ax = px - viewW / 2, ay = py - viewH / 2; // anchor relative to the scale pivot
+        tx = ax - (ax - tx) * f;
+        ty = ay - (ay - ty) * f;
+        zoom = z;
+        clamp();
+        return true;
+    }
+
+    boolean panBy(double dx, double dy) {
+        double ox = tx, oy = ty;
+        tx += dx; ty += dy;
+        clamp();
+        return tx != ox || ty != oy;
+    }
+
+    boolean reset() {
+        if (zoom == 1.0 && tx == 0 && ty == 0) return false;
+        zoom = 1.0; tx = 0; ty = 0;
+        return true;
+    }
+
+    private boolean clamp() {
+        double mx = (zoom - 1) * viewW / 2, my = (zoom - 1) * viewH / 2;
+        double cx = Math.max(-mx, Math.min(mx, tx)), cy = Math.max(-my, Math.min(my, ty));
+        boolean changed = cx != tx || cy != ty;
+        tx = cx; ty = cy;
+        return changed;
+    }
+}
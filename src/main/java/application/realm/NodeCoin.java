@@ -11,7 +11,7 @@ import javafx.scene.shape.Circle;
 
 
 public final class NodeCoin extends StackPane {
-    private static final double DIAMETER    = 56.0;  // visual size
+    static final double DIAMETER    = 56.0;  // visual size
     private static final double RING_STROKE = 3.0;
 
     private final Circle base  = new Circle();
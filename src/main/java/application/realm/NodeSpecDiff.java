@@ -0,0 +1,39 @@
+package application.realm;
+
+import application.services.RealmLayoutService.NodeSpec;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Id-keyed difference between two node lists, used to patch a live map after a pack edit. */
+record NodeSpecDiff(List<NodeSpec> added, List<String> removed, List<NodeSpec> changed, boolean reordered) {
+
+    boolean isEmpty() { return added.isEmpty() && removed.isEmpty() && changed.isEmpty() && !reordered; }
+
+    static NodeSpecDiff of(List<NodeSpec> before, List<NodeSpec> after) {
+        Map<String, NodeSpec> old = new HashMap<>(before.size() * 2);
+        for (NodeSpec s : before) old.put(s.id(), s);
+
+        List<NodeSpec> added = new ArrayList<>(), changed = new ArrayList<>();
+        List<String> kept = new ArrayList<>(after.size());
+        for (NodeSpec s : after) {
+            NodeSpec prev = old.remove(s.id());
+            if (prev == null) { added.add(s); continue; }
+            kept.add(s.id());
+            if (!prev.equals(s)) changed.add(s);
+        }
+
+        // Survivors in a different relative order change the path even if no spec changed.
+        List<String> keptBefore = new ArrayList<>(kept.size());
+        for (NodeSpec s : before) if (!old.containsKey(s.id())) keptBefore.add(s.id());
+        boolean reordered = !keptBefore.equals(kept);
+
+        return new NodeSpecDiff(added, List.copyOf(old.keySet()), changed, reordered);
+    }
+
+    @Override public String toString() {
+        return "+" + added.size() + " -" + removed.size() + " ~" + changed.size() + (reordered ? " (reordered)" : "");
+    }
+}
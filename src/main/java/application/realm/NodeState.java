@@ -0,0 +1,39 @@
+package application.realm;
+
+import javafx.css.PseudoClass;
+
+/**
+ * Visual state of a map node. Coins carry it as a pseudo-class ({@code .node-coin:locked} etc.),
+ * so a state change flips one flag instead of rewriting the style-class list;
+ * {@link #styleClass()} is the matching name used in {@code NodeSpec}s.
+ */
+enum NodeState {
+    LOCKED("node-locked", "locked", 0.55),
+    NEXT("node-next", "next", 0.95),
+    UNLOCKED("node-unlocked", "unlocked", 1.0),
+    CLAIMED("node-claimed", "claimed", 1.0);
+
+    private final String styleClass;
+    private final PseudoClass pseudoClass;
+    private final double opacity;
+
+    NodeState(String styleClass, String pseudoClass, double opacity) {
+        this.styleClass = styleClass;
+        this.pseudoClass = PseudoClass.getPseudoClass(pseudoClass);
+        this.opacity = opacity;
+    }
+
+    String styleClass() { return styleClass; }
+
+    PseudoClass pseudoClass() { return pseudoClass; }
+
+    /** Mirrors the opacity rules in realm-map.css for renderers that bypass CSS. */
+    double opacity() { return opacity; }
+
+    boolean reachable() { return this == UNLOCKED || this == CLAIMED; }
+
+    static NodeState fromStyleClass(String styleClass) {
+        for (NodeState s : values()) if (s.styleClass.equals(styleClass)) return s;
+        return UNLOCKED;
+    }
+}
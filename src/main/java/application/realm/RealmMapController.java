@@ -1,40 +1,52 @@
 package application.realm;
 
-import application.LocalStore;
-import application.Realm;
+import application.assets.ImageCache;
+import application.engine.LocalStore;
+import application.engine.Realm;
 import application.services.RealmLayoutService;
 import javafx.animation.Animation;
+import javafx.animation.FadeTransition;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
-import javafx.application.Platform;
-import javafx.beans.value.ChangeListener;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.geometry.Bounds;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
 import javafx.scene.AccessibleRole;
+import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.Tooltip;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.CycleMethod;
-import javafx.scene.paint.RadialGradient;
-import javafx.scene.paint.Stop;
+import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.StrokeLineCap;
+import javafx.stage.Stage;
+import javafx.stage.Window;
 import javafx.util.Duration;
 
 import java.awt.Desktop;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.net.URL;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Random;
 
 public class RealmMapController {
 
@@ -43,53 +55,74 @@ public class RealmMapController {
     @FXML private StackPane mapRoot;   // container
     @FXML private ImageView mapView;   // background map image
     @FXML private Canvas bgCanvas;     // gradient + vignette + noise
-    @FXML private Canvas pathCanvas;   // dotted path
+    @FXML private Canvas pathCanvas;   // dotted path (static segments)
+    @FXML private Canvas activePathCanvas; // animated "node-next" segment only
     @FXML private Pane nodesLayer;     // coins
     @FXML private Pane labelsLayer;    // label pills
 
     public interface NavDelegate { void backToHub(); }
     public interface NodeSelectionHandler { void onNodeSelected(String nodeId); }
 
-    /** Optional: allow app to customize how links open. */
+    /** Optional: allow app to customize how links open. Called on a virtual thread, never the FX thread. */
     public interface ResourceOpener { void open(String url); }
 
+    // Runs on a virtual thread via LinkOpener; may block on the desktop handoff.
     private ResourceOpener opener = url -> {
-        if (url == null || url.isBlank()) return;
         try {
             if (Desktop.isDesktopSupported()) {
                 Desktop.getDesktop().browse(URI.create(url));
             } else {
                 System.out.println("Open URL (no Desktop): " + url);
             }
-        } catch (Exception ex) {
-            ex.printStackTrace();
-            Alert a = new Alert(Alert.AlertType.ERROR, "Couldn't open link:\n" + url);
-            a.setHeaderText("Open Link Failed");
-            a.showAndWait();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
         }
     };
+    private final LinkOpener links = new LinkOpener();
 
+    /**
+     * Replaces how node links are opened. The opener runs on a virtual thread, not the FX thread, so it
+     * may block but must use {@code Platform.runLater} for any UI work. A thrown exception or a run longer
+     * than {@link LinkOpener#TIMEOUT_MS} ms is reported to the user in a toast.
+     */
     public void setResourceOpener(ResourceOpener custom) {
         if (custom != null) this.opener = custom;
     }
 
     private static final boolean REDUCED_MOTION = Boolean.getBoolean("stacked.reducedMotion");
     private static final double MIN_CONTENT_SIZE = 50.0; // Minimum size for content area
+    private static final double PATH_WIDTH = 3;
+    // Realms this large (or -Dstacked.spriteNodes=true) draw nodes on one canvas instead of one NodeCoin each.
+    private static final boolean SPRITE_NODES = Boolean.getBoolean("stacked.spriteNodes");
+    private static final int SPRITE_THRESHOLD = 256;
 
     private RealmLayoutService layoutService;
+    private Realm realm;
+    private Runnable unwatchPacks;
     private NavDelegate nav;
     private NodeSelectionHandler onSelect = id -> System.out.println("NODE_SELECTED: " + id);
 
     private Image nodeImage;
     private final List<NodeHolder> nodeHolders = new ArrayList<>();
-    private final Random noiseRng = new Random(42);
-    private javafx.scene.image.Image noiseTile;
+    private SpriteNodeLayer sprites;  // non-null when nodes are sprite-rendered
+    private Label toast;              // created on first message
+    private final FadeTransition toastFade = new FadeTransition(Duration.millis(400));
+    private UnlockStates unlocks;     // per layout; null until the first refresh
+    private BitSet claimedBits = new BitSet(); // this realm's claimed ordinals, as of the last rebuild
+    private final MapViewport viewport = new MapViewport();
+    private double dragX, dragY;
+    private LayoutScheduler scheduler;
     private final Timeline dashAnim = new Timeline();
     private double dashOffset = 0;
+    private double[] activeSegment;   // x1,y1,x2,y2 of the node-next edge, null if none
+    private double[] activeDirty;     // bbox last drawn on activePathCanvas
+    private ObservableValue<Boolean> windowShowing;
+    private ObservableValue<Boolean> windowIconified;
 
     public void init(Realm realm, RealmLayoutService layoutService, NavDelegate nav) {
         this.layoutService = Objects.requireNonNull(layoutService);
         this.nav = nav;
+        this.realm = realm;
         titleLabel.setText(realm.display() + " – Map");
         loadLayout(realm);
     }
@@ -106,115 +139,264 @@ public class RealmMapController {
         mapView.fitWidthProperty().bind(mapRoot.widthProperty());
         mapView.fitHeightProperty().bind(mapRoot.heightProperty());
 
+        scheduler = new LayoutScheduler(mapRoot, this::layoutPass);
+
         // Keep canvases sized with container
         bindCanvas(bgCanvas);
         bindCanvas(pathCanvas);
+        bindCanvas(activePathCanvas);
+        activePathCanvas.setMouseTransparent(true);
 
         backBtn.setOnAction(e -> { if (nav != null) nav.backToHub(); });
 
-        // Repaint/relayout when anything meaningful changes.
-        ChangeListener<Number> relayout = (obs, a, b) -> {
-            layoutNodes();
-            paintPath();
-            paintBackground();
-        };
-        mapRoot.widthProperty().addListener(relayout);
-        mapRoot.heightProperty().addListener(relayout);
-
-        // recompute using the actual displayed rectangle.
-        mapView.boundsInParentProperty().addListener((o, a, b) -> {
-            layoutNodes();
-            paintPath();
-        });
+        // Listeners only mark what is stale; the scheduler runs one pass per pulse after layout.
+        InvalidationListener relayoutAll = o -> scheduler.invalidate(LayoutScheduler.ALL);
+        InvalidationListener relayoutContent = o -> scheduler.invalidate(LayoutScheduler.NODES | LayoutScheduler.PATH);
+        mapRoot.layoutBoundsProperty().addListener(relayoutAll);
+        mapView.boundsInParentProperty().addListener(relayoutContent); // actual displayed rectangle
+        mapView.imageProperty().addListener(relayoutContent);
 
-        //When the root gets a Scene, run once after first layout pass (fixes "starts in corner until resize").
+        initViewport();
+
+        // The scheduler runs a full pass once the root gets a Scene (fixes "starts in corner until resize").
         mapRoot.sceneProperty().addListener((obs, oldScene, newScene) -> {
-            if (newScene != null) {
-                Platform.runLater(() -> {
-                    layoutNodes();
-                    paintBackground();
-                    paintPath();
-                    refreshNodeStatesByXp(); //ensure styles reflect current XP on first show
-                });
+            if (newScene != null) refreshNodeStatesByXp(); //ensure styles reflect current XP on first show
+            // Dev hot reload only while this map is on screen.
+            if (newScene != null && unwatchPacks == null) {
+                unwatchPacks = DevReloader.shared().onPackChanged(this::onPackChanged);
+            } else if (newScene == null && unwatchPacks != null) {
+                unwatchPacks.run();
+                unwatchPacks = null;
             }
         });
 
-        // Also react when layout bounds change
-        mapRoot.layoutBoundsProperty().addListener((o, a, b) -> {
-            layoutNodes();
-            paintPath();
-            paintBackground();
-        });
-
-
-        mapView.imageProperty().addListener((obs, old, img) -> {
-            layoutNodes();
-            paintPath();
-        });
-
         if (!REDUCED_MOTION) {
             dashAnim.getKeyFrames().setAll(new KeyFrame(Duration.seconds(0.016), e -> {
                 dashOffset = (dashOffset + 0.9) % 20; // slow drift
-                paintPath();
+                paintActiveSegment();
             }));
             dashAnim.setCycleCount(Animation.INDEFINITE);
-            dashAnim.play();
+
+            // Only animate while the map is on a visible, non-minimized window.
+            ObservableValue<Window> window = mapRoot.sceneProperty().flatMap(Scene::windowProperty);
+            windowShowing = window.flatMap(Window::showingProperty).orElse(false);
+            windowIconified = window.flatMap(w -> w instanceof Stage s ? s.iconifiedProperty() : null).orElse(false);
+            windowShowing.addListener((o, a, b) -> updateDashAnimation());
+            windowIconified.addListener((o, a, b) -> updateDashAnimation());
         }
     }
 
+    /**
+     * Wheel zooms about the cursor, drag pans, +/-/0 zoom from the keyboard. The transform is
+     * applied to the map image, so {@link #contentRect()} (and everything placed from it) follows.
+     */
+    private void initViewport() {
+        Rectangle clip = new Rectangle();
+        clip.widthProperty().bind(mapRoot.widthProperty());
+        clip.heightProperty().bind(mapRoot.heightProperty());
+        mapRoot.setClip(clip);
+
+        mapRoot.layoutBoundsProperty().addListener((o, a, b) -> {
+            if (viewport.setViewSize(b.getWidth(), b.getHeight())) applyViewport();
+        });
+        mapRoot.addEventHandler(ScrollEvent.SCROLL, e -> {
+            if (e.getDeltaY() == 0) return;
+            if (viewport.zoomAt(e.getX(), e.getY(), Math.pow(1.0015, e.getDeltaY()))) applyViewport();
+            e.consume();
+        });
+        mapRoot.addEventHandler(MouseEvent.MOUSE_PRESSED, e -> { dragX = e.getX(); dragY = e.getY(); });
+        mapRoot.addEventHandler(MouseEvent.MOUSE_DRAGGED, e -> {
+            if (viewport.panBy(e.getX() - dragX, e.getY() - dragY)) applyViewport();
+            dragX = e.getX(); dragY = e.getY();
+        });
+        mapRoot.addEventHandler(KeyEvent.KEY_PRESSED, e -> {
+            double cx = mapRoot.getWidth() / 2, cy = mapRoot.getHeight() / 2;
+            boolean changed = switch (e.getCode()) {
+                case PLUS, EQUALS, ADD -> viewport.zoomAt(cx, cy, 1.25);
+                case MINUS, SUBTRACT -> viewport.zoomAt(cx, cy, 1 / 1.25);
+                case DIGIT0, NUMPAD0 -> viewport.reset();
+                default -> false;
+            };
+            if (changed) { applyViewport(); e.consume(); }
+        });
+    }
+
+    private void applyViewport() {
+        mapView.setScaleX(viewport.zoom());
+        mapView.setScaleY(viewport.zoom());
+        mapView.setTranslateX(viewport.translateX());
+        mapView.setTranslateY(viewport.translateY());
+        if (sprites != null) sprites.setShowTitles(viewport.showAllLabels());
+        // boundsInParent changes, which schedules NODES | PATH
+    }
+
+    private void updateDashAnimation() {
+        if (REDUCED_MOTION || windowShowing == null) return;
+        boolean run = activeSegment != null && windowShowing.getValue() && !windowIconified.getValue();
+        if (run && dashAnim.getStatus() != Animation.Status.RUNNING) dashAnim.play();
+        else if (!run && dashAnim.getStatus() == Animation.Status.RUNNING) dashAnim.pause();
+    }
+
     private void bindCanvas(Canvas c) {
         c.widthProperty().bind(mapRoot.widthProperty());
         c.heightProperty().bind(mapRoot.heightProperty());
-        c.widthProperty().addListener((o,a,b)-> { if (c==bgCanvas) paintBackground(); else paintPath(); });
-        c.heightProperty().addListener((o,a,b)-> { if (c==bgCanvas) paintBackground(); else paintPath(); });
+    }
+
+    private void layoutPass(int dirty) {
+        if ((dirty & LayoutScheduler.NODES) != 0) layoutNodes();
+        if ((dirty & LayoutScheduler.BACKGROUND) != 0) paintBackground();
+        if ((dirty & LayoutScheduler.PATH) != 0) paintPath();
+    }
+
+    /** Number of coalesced layout passes so far (one per frame during a resize). */
+    long layoutPasses() { return scheduler.passes(); }
+
+    /** Backdrop variant the map shows at natural size; shared with {@link RealmPrefetcher} so both hit one cache key. */
+    static URL mapImageUrl(RealmLayoutService layouts, RealmLayoutService.Layout layout) {
+        return layouts.variantFor(layout.mapUrl(), ImageCache.screenEdgePx());
+    }
+
+    /** Coin variant decoded at {@link NodeCoin#DIAMETER}. */
+    static URL coinImageUrl(RealmLayoutService layouts, RealmLayoutService.Layout layout) {
+        return layouts.variantFor(layout.nodeUrl(), NodeCoin.DIAMETER * ImageCache.outputScale());
     }
 
     private void loadLayout(Realm realm) {
         var layout = layoutService.loadLayout(realm);
-        if (layout.mapUrl() != null) mapView.setImage(new Image(layout.mapUrl().toExternalForm(), true));
-        nodeImage = layout.nodeUrl() != null ? new Image(layout.nodeUrl().toExternalForm(), true) : null;
+        ImageCache images = ImageCache.shared();
+        if (layout.mapUrl() != null) mapView.setImage(images.get(mapImageUrl(layoutService, layout)));
+        nodeImage = images.get(coinImageUrl(layoutService, layout), NodeCoin.DIAMETER, NodeCoin.DIAMETER, true);
 
         nodesLayer.getChildren().clear();
         labelsLayer.getChildren().clear();
         nodeHolders.clear();
+        sprites = null;
+        unlocks = null;
 
-        for (var spec : layout.nodes()) {
-            NodeCoin coin = new NodeCoin(nodeImage);
-            coin.getStyleClass().add(spec.styleClass() == null ? "node-unlocked" : spec.styleClass());
-            coin.setAccessibleRole(AccessibleRole.BUTTON);
-            coin.setAccessibleText(spec.title());
+        if (SPRITE_NODES || layout.nodes().size() >= SPRITE_THRESHOLD) buildSpriteNodes(layout.nodes());
+        else buildCoinNodes(layout.nodes());
 
+        refreshNodeStatesByXp();
+        scheduler.invalidate(LayoutScheduler.ALL);
+    }
 
-            NodeHolder holder = new NodeHolder(spec.id(), spec.x(), spec.y(), coin, spec);
-            coin.setOnMouseClicked(e -> onActivate(holder));
-            coin.setOnKeyPressed(e -> {
-                if (e.getCode() == KeyCode.ENTER || e.getCode() == KeyCode.SPACE) onActivate(holder);
-            });
+    private void buildCoinNodes(List<RealmLayoutService.NodeSpec> specs) {
+        for (var spec : specs) nodeHolders.add(createCoin(spec));
+    }
 
-            if (spec.title() != null)
-                Tooltip.install(coin, new Tooltip(spec.title() + (spec.tooltip()!=null? "\n" + spec.tooltip() : "")));
+    /** Claim ordinal pinned to the node's id in the save, so pack edits never move a claim. */
+    private int ordinalOf(RealmLayoutService.NodeSpec spec) {
+        return LocalStore.getInstance().nodeOrdinal(realm, spec.id());
+    }
 
+    /** Builds one coin + tooltip + pill and adds them to the layers. */
+    private NodeHolder createCoin(RealmLayoutService.NodeSpec spec) {
+        NodeCoin coin = new NodeCoin(nodeImage);
+        coin.setAccessibleRole(AccessibleRole.BUTTON);
 
-            Label pill = new Label(spec.title() + (spec.tooltip()!=null? " – " + spec.tooltip() : ""));
-            pill.getStyleClass().add("node-label");
-            pill.setManaged(false);
-            pill.setVisible(false);
-            coin.hoverProperty().addListener((o,was,is)-> pill.setVisible(is || coin.isFocused()));
-            coin.focusedProperty().addListener((o,was,is)-> pill.setVisible(is || coin.isHover()));
 
-            nodesLayer.getChildren().add(coin);
-            labelsLayer.getChildren().add(pill);
-            holder.label = pill;
-            nodeHolders.add(holder);
+        NodeHolder holder = new NodeHolder(spec.id(), ordinalOf(spec), spec.x(), spec.y(), coin, spec);
+        coin.setOnMouseClicked(e -> { if (e.isStillSincePress()) onActivate(holder); });
+        coin.setOnKeyPressed(e -> {
+            if (e.getCode() == KeyCode.ENTER || e.getCode() == KeyCode.SPACE) onActivate(holder);
+        });
+
+        holder.tooltip = new Tooltip();
+
+        Label pill = new Label();
+        pill.getStyleClass().add("node-label");
+        pill.setManaged(false);
+        pill.setVisible(false);
+        coin.hoverProperty().addListener((o,was,is)-> updateLabel(holder));
+        coin.focusedProperty().addListener((o,was,is)-> updateLabel(holder));
+        holder.label = pill;
+        applyText(holder);
+
+        nodesLayer.getChildren().add(coin);
+        labelsLayer.getChildren().add(pill);
+        return holder;
+    }
+
+    private static void applyText(NodeHolder h) {
+        var spec = h.spec;
+        h.coin.setAccessibleText(spec.title());
+        boolean wantTip = spec.title() != null;
+        if (wantTip) h.tooltip.setText(spec.title() + (spec.tooltip()!=null? "\n" + spec.tooltip() : ""));
+        if (wantTip != h.tooltipInstalled) {
+            if (wantTip) Tooltip.install(h.coin, h.tooltip); else Tooltip.uninstall(h.coin, h.tooltip);
+            h.tooltipInstalled = wantTip;
         }
+        h.label.setText(spec.title() + (spec.tooltip()!=null? " – " + spec.tooltip() : ""));
+    }
 
+    /**
+     * Dev hot reload: patches the live map to the re-read pack. Coins are diffed by id, so only
+     * added, removed or edited nodes are touched; the sprite layer is one node and is simply rebuilt.
+     */
+    private void onPackChanged(Realm changed) {
+        if (changed != realm || mapRoot.getScene() == null) return;
+        long t0 = System.nanoTime();
+        var layout = layoutService.loadLayout(realm);
+        var before = nodeHolders.stream().map(h -> h.spec).toList();
+        NodeSpecDiff diff = NodeSpecDiff.of(before, layout.nodes());
+        if (diff.isEmpty()) return;
+
+        boolean spriteMode = SPRITE_NODES || layout.nodes().size() >= SPRITE_THRESHOLD;
+        if (sprites != null || spriteMode) {
+            nodesLayer.getChildren().clear();
+            labelsLayer.getChildren().clear();
+            nodeHolders.clear();
+            sprites = null;
+            if (spriteMode) buildSpriteNodes(layout.nodes()); else buildCoinNodes(layout.nodes());
+        } else {
+            Map<String, NodeHolder> byId = new HashMap<>();
+            for (var h : nodeHolders) byId.put(h.id, h);
+            List<NodeHolder> order = new ArrayList<>(layout.nodes().size());
+            for (var spec : layout.nodes()) {
+                NodeHolder h = byId.remove(spec.id());
+                if (h == null) {
+                    h = createCoin(spec);
+                } else if (!h.spec.equals(spec)) {
+                    h.spec = spec; h.x = spec.x(); h.y = spec.y();
+                    applyText(h);
+                }
+                order.add(h);
+            }
+            for (var gone : byId.values()) {
+                nodesLayer.getChildren().remove(gone.coin);
+                labelsLayer.getChildren().remove(gone.label);
+            }
+            nodeHolders.clear();
+            nodeHolders.addAll(order);
+        }
+        unlocks = null; // thresholds may have changed; next refresh applies every state
+        refreshNodeStatesByXp();
+        scheduler.invalidate(LayoutScheduler.NODES | LayoutScheduler.PATH);
+        System.out.printf("Patched %s map %s in %.1f ms%n", realm, diff, (System.nanoTime() - t0) / 1e6);
+    }
 
-        Platform.runLater(() -> {
-            layoutNodes();
-            paintBackground();
-            paintPath();
-            refreshNodeStatesByXp();
-        });
+    /** One canvas + shared pill/tooltip for all nodes; see {@link SpriteNodeLayer}. */
+    private void buildSpriteNodes(List<RealmLayoutService.NodeSpec> specs) {
+        int n = specs.size();
+        double[] xs = new double[n], ys = new double[n];
+        String[] titles = new String[n], tips = new String[n];
+        for (int i = 0; i < n; i++) {
+            var spec = specs.get(i);
+            xs[i] = spec.x(); ys[i] = spec.y();
+            titles[i] = spec.title(); tips[i] = spec.tooltip();
+            nodeHolders.add(new NodeHolder(spec.id(), ordinalOf(spec), spec.x(), spec.y(), null, spec));
+        }
+
+        Label pill = new Label();
+        pill.getStyleClass().add("node-label");
+        pill.setMouseTransparent(true);
+        labelsLayer.getChildren().add(pill);
+
+        sprites = new SpriteNodeLayer(nodeImage, xs, ys, titles, tips, pill);
+        sprites.widthProperty().bind(mapRoot.widthProperty());
+        sprites.heightProperty().bind(mapRoot.heightProperty());
+        sprites.setOnActivate(i -> onActivate(nodeHolders.get(i)));
+        nodesLayer.getChildren().add(sprites);
     }
 
     /** Open the resource if unlocked; otherwise show why it’s locked. Also forwards event to onSelect. */
@@ -222,46 +404,83 @@ public class RealmMapController {
         boolean unlocked = isUnlocked(h);
         if (!unlocked) {
             String msg = (h.spec.tooltip()!=null) ? h.spec.tooltip() : ("Unlock at " + h.spec.thresholdXp() + " XP");
-            Alert a = new Alert(Alert.AlertType.INFORMATION, msg);
-            a.setHeaderText("Locked");
-            a.showAndWait();
+            toast("Locked – " + msg);
             return;
         }
-        if (h.spec.url() != null && !h.spec.url().isBlank()) {
-            opener.open(h.spec.url());
-        }
+        String url = h.spec.url();
+        boolean hasLink = url != null && !url.isBlank();
+        // Double clicks on the same node within the debounce window open (and claim) once.
+        if (hasLink && !links.open(h.id, url, opener, this::toast)) return;
+        claim(h);
         onSelect.onNodeSelected(h.id); // keep your callback behavior
     }
 
-    /** Unlocked if visual state isn't locked OR XP >= threshold. */
+    /** Short non-modal message over the bottom of the map; a newer one replaces it. */
+    private void toast(String msg) {
+        if (toast == null) {
+            toast = new Label();
+            toast.getStyleClass().add("map-toast");
+            toast.setMouseTransparent(true);
+            toast.setWrapText(true);
+            StackPane.setAlignment(toast, Pos.BOTTOM_CENTER);
+            StackPane.setMargin(toast, new Insets(0, 0, 24, 0));
+            toastFade.setNode(toast);
+            toastFade.setFromValue(1);
+            toastFade.setToValue(0);
+            toastFade.setDelay(Duration.seconds(2.4));
+            toastFade.setOnFinished(e -> mapRoot.getChildren().remove(toast));
+        }
+        toast.setText(msg);
+        toast.setOpacity(1);
+        if (!mapRoot.getChildren().contains(toast)) mapRoot.getChildren().add(toast);
+        toastFade.playFromStart();
+    }
+
+    /** Opening an unlocked node claims it (one bit in the realm's claimed set). */
+    private void claim(NodeHolder h) {
+        LocalStore store = LocalStore.getInstance();
+        if (h.ordinal < 0 || !store.claimed().claim(realm, h.ordinal)) return;
+        store.saveSafe();
+        claimedBits.set(h.ordinal);
+        int i = nodeHolders.indexOf(h);
+        boolean changed = unlocks != null && i >= 0 && unlocks.claimChanged(i, this::applyState);
+        if (changed && sprites != null) scheduler.invalidate(LayoutScheduler.NODES); // coins restyle via pseudo-class
+    }
+
+    /** Unlocked if the node's cached state is reached. */
     private boolean isUnlocked(NodeHolder h) {
-        var sc = h.coin.getStyleClass();
-        if (!sc.contains("node-locked") && !sc.contains("node-next")) return true;
-        int xp = 0;
-        try { xp = LocalStore.getInstance().profile().getTotalXp(); } catch (Throwable ignored) {}
-        return xp >= h.spec.thresholdXp();
+        return h.state.reachable(); // kept current by refreshNodeStatesByXp()
     }
 
-    /** Refresh style classes based on current XP: first locked → node-next, others locked → node-locked, reached → node-unlocked. */
+    /**
+     * Refresh node states from current XP: reached → unlocked, first unreached → next, others → locked.
+     * Only nodes between the previous and new unlock frontier change; each flips its pseudo-class.
+     */
     private void refreshNodeStatesByXp() {
         int xp = 0;
         try { xp = LocalStore.getInstance().profile().getTotalXp(); } catch (Throwable ignored) {}
 
-        boolean nextAssigned = false;
-        for (var h : nodeHolders) {
-            var sc = h.coin.getStyleClass();
-            sc.removeAll("node-locked","node-next","node-unlocked","node-claimed");
-
-            if (xp >= h.spec.thresholdXp()) {
-                sc.add("node-unlocked");
-            } else if (!nextAssigned) {
-                sc.add("node-next");
-                nextAssigned = true;
-            } else {
-                sc.add("node-locked");
-            }
+        if (unlocks == null || unlocks.size() != nodeHolders.size()) {
+            int[] thresholds = new int[nodeHolders.size()];
+            for (int i = 0; i < thresholds.length; i++) thresholds[i] = nodeHolders.get(i).spec.thresholdXp();
+            claimedBits = LocalStore.getInstance().claimed().snapshot(realm);
+            unlocks = new UnlockStates(thresholds, i -> {
+                int ord = nodeHolders.get(i).ordinal;
+                return ord >= 0 && claimedBits.get(ord);
+            });
+        }
+        if (unlocks.update(xp, this::applyState))
+            scheduler.invalidate(sprites != null ? LayoutScheduler.NODES | LayoutScheduler.PATH : LayoutScheduler.PATH);
+    }
+
+    private void applyState(int i, NodeState state) {
+        var h = nodeHolders.get(i);
+        if (h.coin != null) {
+            h.coin.pseudoClassStateChanged(h.state.pseudoClass(), false);
+            h.coin.pseudoClassStateChanged(state.pseudoClass(), true);
         }
-        paintPath();
+        h.state = state;
+        if (sprites != null) sprites.setState(i, state);
     }
 
     private void layoutNodes() {
@@ -269,17 +488,34 @@ public class RealmMapController {
         if (rect == null) return;
         double offX = rect[0], offY = rect[1], cw = rect[2], ch = rect[3];
 
+        if (sprites != null) {
+            sprites.setContentRect(offX, offY, cw, ch);
+            sprites.repaint();
+            return;
+        }
+
+        boolean zoomed = viewport.zoom() > MapViewport.MIN_ZOOM;
+        double vw = mapRoot.getWidth(), vh = mapRoot.getHeight();
         for (var h : nodeHolders) {
             double nodeW = h.coin.getWidth()  > 0 ? h.coin.getWidth()  : h.coin.prefWidth(-1);
             double nodeH = h.coin.getHeight() > 0 ? h.coin.getHeight() : h.coin.prefHeight(-1);
             double x = offX + h.x * cw - nodeW / 2.0;
             double y = offY + h.y * ch - nodeH / 2.0;
 
-            // Keep within visible bounds
-            x = Math.max(0, Math.min(mapRoot.getWidth() - nodeW, x));
-            y = Math.max(0, Math.min(mapRoot.getHeight() - nodeH, y));
+            if (zoomed) {
+                // Cull: nodes outside the viewport are hidden rather than laid out.
+                boolean inView = x + nodeW > 0 && y + nodeH > 0 && x < vw && y < vh;
+                h.coin.setVisible(inView);
+                if (!inView) { updateLabel(h); continue; }
+            } else {
+                // Keep within visible bounds
+                h.coin.setVisible(true);
+                x = Math.max(0, Math.min(vw - nodeW, x));
+                y = Math.max(0, Math.min(vh - nodeH, y));
+            }
 
             h.coin.relocate(x, y);
+            updateLabel(h);
 
             // Label position (avoid clipping)
             if (h.label != null) {
@@ -297,86 +533,96 @@ public class RealmMapController {
         }
     }
 
-    private void paintBackground() {
-        GraphicsContext g = bgCanvas.getGraphicsContext2D();
-        double w = bgCanvas.getWidth(), h = bgCanvas.getHeight();
-        g.clearRect(0,0,w,h);
+    /** Coin-mode pill: on hover/focus, or for every visible node once zoomed past {@link MapViewport#LABEL_ZOOM}. */
+    private void updateLabel(NodeHolder h) {
+        if (h.label == null) return;
+        h.label.setVisible(h.coin.isVisible()
+                && (h.coin.isHover() || h.coin.isFocused() || viewport.showAllLabels()));
+    }
 
-        // Radial water gradient
-        RadialGradient water = new RadialGradient(0, 0, 0.5, 0.5, 0.9, true, CycleMethod.NO_CYCLE,
-                new Stop(0, Color.web("#0b1530")),
-                new Stop(0.65, Color.web("#0e1a3a")),
-                new Stop(1, Color.web("#0a1228")));
-        g.setFill(water);
-        g.fillRect(0,0,w,h);
-
-        // Soft vignette
-        RadialGradient vignette = new RadialGradient(0, 0, 0.5, 0.5, 1.0, true, CycleMethod.NO_CYCLE,
-                new Stop(0.6, Color.TRANSPARENT),
-                new Stop(1.0, Color.color(0,0,0,0.38)));
-        g.setFill(vignette);
-        g.fillRect(0,0,w,h);
-
-        // Optional subtle noise
-        if (noiseTile == null) noiseTile = makeNoiseTile(128, 128, noiseRng);
-        g.setGlobalAlpha(0.08);
-        for (int yy = 0; yy < h; yy += (int)noiseTile.getHeight())
-            for (int xx = 0; xx < w; xx += (int)noiseTile.getWidth())
-                g.drawImage(noiseTile, xx, yy);
-        g.setGlobalAlpha(1);
-    }
-
-    private Image makeNoiseTile(int w, int h, Random rng) {
-        var img = new javafx.scene.image.WritableImage(w, h);
-        var pw = img.getPixelWriter();
-        for (int y=0;y<h;y++) for (int x=0;x<w;x++) {
-            int v = 230 + rng.nextInt(25); // very light
-            pw.setColor(x,y, Color.rgb(v,v,v));
-        }
-        return img;
+    private void paintBackground() {
+        MapBackground.paint(bgCanvas.getGraphicsContext2D(), bgCanvas.getWidth(), bgCanvas.getHeight());
     }
 
+    /**
+     * Strokes every static segment once per layout/size/state change. The node-next edge is only
+     * recorded here; {@link #paintActiveSegment()} draws it on its own canvas each frame.
+     */
     private void paintPath() {
         GraphicsContext g = pathCanvas.getGraphicsContext2D();
         double w = pathCanvas.getWidth(), h = pathCanvas.getHeight();
         g.clearRect(0,0,w,h);
-        if (nodeHolders.size() < 2) return;
-
-        double[] rect = contentRect();
-        if (rect == null) return;
+        activeSegment = null;
+        try {
+            if (nodeHolders.size() < 2) return;
+
+            double[] rect = contentRect();
+            if (rect == null) return;
+
+            double offX = rect[0], offY = rect[1], cw = rect[2], ch = rect[3];
+
+            g.setLineWidth(PATH_WIDTH);
+            g.setLineCap(StrokeLineCap.ROUND);
+            g.setLineDashes(10, 10);
+
+            boolean zoomed = viewport.zoom() > MapViewport.MIN_ZOOM;
+            for (int i=0; i<nodeHolders.size()-1; i++) {
+                NodeHolder a = nodeHolders.get(i), b = nodeHolders.get(i+1);
+                double x1 = offX + a.x * cw, y1 = offY + a.y * ch;
+                double x2 = offX + b.x * cw, y2 = offY + b.y * ch;
+
+                if (zoomed) {
+                    // Cull segments whose bounding box misses the viewport.
+                    if (Math.max(x1, x2) < 0 || Math.max(y1, y2) < 0 || Math.min(x1, x2) > w || Math.min(y1, y2) > h) continue;
+                } else {
+                    // Ensure path coordinates are within bounds
+                    x1 = Math.max(0, Math.min(w, x1));
+                    y1 = Math.max(0, Math.min(h, y1));
+                    x2 = Math.max(0, Math.min(w, x2));
+                    y2 = Math.max(0, Math.min(h, y2));
+                }
 
-        double offX = rect[0], offY = rect[1], cw = rect[2], ch = rect[3];
+                if (b.state == NodeState.NEXT) {
+                    activeSegment = new double[]{x1, y1, x2, y2};
+                } else if (b.state == NodeState.LOCKED) {
+                    g.setStroke(Color.color(1,1,1,0.25));
+                    g.strokeLine(x1,y1,x2,y2);
+                } else { // completed / unlocked / claimed
+                    g.setStroke(Color.color(1,1,1,0.70));
+                    g.strokeLine(x1,y1,x2,y2);
+                }
+            }
+        } finally {
+            clearActiveSegment(true);
+            paintActiveSegment();
+            updateDashAnimation();
+        }
+    }
 
-        g.setLineWidth(3);
+    /** Redraws the node-next edge, clearing only the box it covered last frame. */
+    private void paintActiveSegment() {
+        clearActiveSegment(false);
+        double[] s = activeSegment;
+        if (s == null) return;
+        GraphicsContext g = activePathCanvas.getGraphicsContext2D();
+        g.setLineWidth(PATH_WIDTH);
         g.setLineCap(StrokeLineCap.ROUND);
         g.setLineDashes(10, 10);
+        g.setLineDashOffset(REDUCED_MOTION ? 0 : dashOffset);
+        g.setStroke(Color.web("#6D28D9", 0.95));
+        g.strokeLine(s[0], s[1], s[2], s[3]);
+
+        double pad = PATH_WIDTH + 1; // round caps reach half a width past the ends
+        activeDirty = new double[]{
+                Math.min(s[0], s[2]) - pad, Math.min(s[1], s[3]) - pad,
+                Math.abs(s[2] - s[0]) + 2 * pad, Math.abs(s[3] - s[1]) + 2 * pad};
+    }
 
-        for (int i=0; i<nodeHolders.size()-1; i++) {
-            NodeHolder a = nodeHolders.get(i), b = nodeHolders.get(i+1);
-            double x1 = offX + a.x * cw, y1 = offY + a.y * ch;
-            double x2 = offX + b.x * cw, y2 = offY + b.y * ch;
-
-            // Ensure path coordinates are within bounds
-            x1 = Math.max(0, Math.min(w, x1));
-            y1 = Math.max(0, Math.min(h, y1));
-            x2 = Math.max(0, Math.min(w, x2));
-            y2 = Math.max(0, Math.min(h, y2));
-
-            var classes = b.coin.getStyleClass();
-            if (classes.contains("node-next")) {
-                g.setStroke(Color.web("#6D28D9", 0.95));
-                g.save();
-                g.setLineDashOffset(REDUCED_MOTION ? 0 : dashOffset);
-                g.strokeLine(x1,y1,x2,y2);
-                g.restore();
-            } else if (classes.contains("node-locked")) {
-                g.setStroke(Color.color(1,1,1,0.25));
-                g.strokeLine(x1,y1,x2,y2);
-            } else { // completed / unlocked / claimed
-                g.setStroke(Color.color(1,1,1,0.70));
-                g.strokeLine(x1,y1,x2,y2);
-            }
-        }
+    private void clearActiveSegment(boolean whole) {
+        GraphicsContext g = activePathCanvas.getGraphicsContext2D();
+        if (whole) g.clearRect(0, 0, activePathCanvas.getWidth(), activePathCanvas.getHeight());
+        else if (activeDirty != null) g.clearRect(activeDirty[0], activeDirty[1], activeDirty[2], activeDirty[3]);
+        activeDirty = null;
     }
 
     /**
@@ -412,18 +658,23 @@ public class RealmMapController {
         double coinSize = 0;
         if (!nodeHolders.isEmpty()) {
             var c = nodeHolders.get(0).coin;
-            coinSize = c.getWidth() > 0 ? c.getWidth() : c.prefWidth(-1);
+            coinSize = c == null ? NodeCoin.DIAMETER : c.getWidth() > 0 ? c.getWidth() : c.prefWidth(-1);
         }
         if (coinSize <= 0) coinSize = 48; // default visual size
         return Math.ceil(coinSize / 2.0 + 3); // glow/focus ring padding
     }
 
     private static final class NodeHolder {
-        final String id; final double x; final double y; final NodeCoin coin;
-        final RealmLayoutService.NodeSpec spec;
+        final String id; final int ordinal; double x; double y;
+        final NodeCoin coin; // null when sprite-rendered
+        RealmLayoutService.NodeSpec spec;
+        NodeState state;
         Label label;
-        NodeHolder(String id, double x, double y, NodeCoin coin, RealmLayoutService.NodeSpec spec) {
-            this.id=id; this.x=x; this.y=y; this.coin=coin; this.spec = spec;
+        Tooltip tooltip;
+        boolean tooltipInstalled;
+        NodeHolder(String id, int ordinal, double x, double y, NodeCoin coin, RealmLayoutService.NodeSpec spec) {
+            this.id=id; this.ordinal=ordinal; this.x=x; this.y=y; this.coin=coin; this.spec = spec;
+            this.state = NodeState.fromStyleClass(spec.styleClass());
         }
     }
 }
@@ -0,0 +1,98 @@
+package application.realm;
+
+import application.assets.ImageCache;
+import application.engine.Realm;
+import application.services.ClasspathRealmLayoutBridge;
+import application.services.RealmLayoutService;
+import javafx.application.Platform;
+
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Gets realm maps ready before they are opened: while the user is on the main screen, the selected
+ * realm and the most recently opened ones have their pack layout loaded and their backdrop and coin
+ * images decoded on one minimum-priority thread, then the map view is built on the FX thread.
+ * A new selection cancels whatever is still pending. Memory is bounded by prefetching at most
+ * {@link #MRU_SIZE} recent realms besides the selection and by never decoding past half of the
+ * image cache budget.
+ */
+public final class RealmPrefetcher {
+    static final int MRU_SIZE = 2;
+
+    private static final RealmPrefetcher SHARED = new RealmPrefetcher(ClasspathRealmLayoutBridge.shared());
+
+    public static RealmPrefetcher shared() { return SHARED; }
+
+    private final RealmLayoutService layouts;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "realm-prefetch");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+    private final Deque<Realm> recent = new ArrayDeque<>(); // most recent first; FX thread only
+    private Future<?> pending;
+    private Consumer<Realm> viewWarmer = r -> { };
+
+    RealmPrefetcher(RealmLayoutService layouts) {
+        this.layouts = layouts;
+    }
+
+    /** Builds the map view for a realm once its data is ready; called on the FX thread. */
+    public void setViewWarmer(Consumer<Realm> warmer) {
+        this.viewWarmer = warmer != null ? warmer : r -> { };
+    }
+
+    /** The user opened {@code realm}; it becomes the most recent. */
+    public void opened(Realm realm) {
+        recent.remove(realm);
+        recent.addFirst(realm);
+        while (recent.size() > MRU_SIZE) recent.removeLast();
+    }
+
+    /** Recently opened realms, most recent first. */
+    public List<Realm> recent() { return List.copyOf(recent); }
+
+    /** Prefetches {@code selected} first, then the recent realms; cancels any prefetch still pending. */
+    public void select(Realm selected) {
+        List<Realm> order = new ArrayList<>(MRU_SIZE + 1);
+        if (selected != null) order.add(selected);
+        for (Realm r : recent) if (!order.contains(r)) order.add(r);
+        if (order.isEmpty()) return;
+
+        if (pending != null) pending.cancel(true);
+        pending = worker.submit(() -> {
+            for (Realm r : order) {
+                if (Thread.currentThread().isInterrupted()) return;
+                if (!prefetch(r)) return;
+                Platform.runLater(() -> viewWarmer.accept(r));
+            }
+        });
+    }
+
+    /** Loads and decodes one realm's data off the FX thread; false once the image budget share is used up. */
+    private boolean prefetch(Realm realm) {
+        ImageCache images = ImageCache.shared();
+        var layout = layouts.loadLayout(realm); // memoized by the bridge
+        if (Thread.currentThread().isInterrupted()) return false;
+        if (images.usedBytes() > images.budgetBytes() / 2) return false;
+
+        if (layout.mapUrl() != null) {
+            URL map = RealmMapController.mapImageUrl(layouts, layout);
+            if (!images.contains(map, 0, 0)) images.get(map, 0, 0, false); // decodes on this thread
+        }
+        if (Thread.currentThread().isInterrupted()) return false;
+        URL coin = RealmMapController.coinImageUrl(layouts, layout);
+        if (!images.contains(coin, NodeCoin.DIAMETER, NodeCoin.DIAMETER))
+            images.get(coin, NodeCoin.DIAMETER, NodeCoin.DIAMETER, false);
+        return true;
+    }
+}
@@ -0,0 +1,65 @@
+package application.realm;
+
+/**
+ * Uniform grid over normalized [0,1]² node positions, stored CSR-style in two int arrays.
+ * Built once per layout; a point query only scans the few cells under the hit radius, so
+ * hit testing stays O(1) per mouse event regardless of node count.
+ */
+final class SpatialGrid {
+    private final int side;
+    private final int[] cellStart; // side*side + 1 offsets into items
+    private final int[] items;     // node indexes grouped by cell
+    private final double[] xs, ys;
+
+    SpatialGrid(double[] xs, double[] ys) {
+        if (xs.length != ys.length) throw new IllegalArgumentException("xs/ys length mismatch");
+        this.xs = xs;
+        this.ys = ys;
+        int n = xs.length;
+        this.side = Math.max(1, Math.min(128, (int) Math.ceil(Math.sqrt(n))));
+
+        cellStart = new int[side * side + 1];
+        int[] cellOf = new int[n];
+        for (int i = 0; i < n; i++) {
+            cellOf[i] = cell(col(xs[i]), col(ys[i]));
+            cellStart[cellOf[i] + 1]++;
+        }
+        for (int c = 0; c < side * side; c++) cellStart[c + 1] += cellStart[c];
+        items = new int[n];
+        int[] fill = new int[side * side];
+        for (int i = 0; i < n; i++) items[cellStart[cellOf[i]] + fill[cellOf[i]]++] = i;
+    }
+
+    /**
+     * Index of the node nearest to (nx, ny) whose ellipse of radii (rx, ry) contains the point,
+     * or -1. On equal distance the higher index (drawn last, so on top) wins.
+     */
+    int nearest(double nx, double ny, double rx, double ry) {
+        if (rx <= 0 || ry <= 0) return -1;
+        int c0 = col(nx - rx), c1 = col(nx + rx);
+        int r0 = col(ny - ry), r1 = col(ny + ry);
+        int best = -1;
+        double bestD = 1.0;
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = cell(c, r);
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    int i = items[k];
+                    double dx = (xs[i] - nx) / rx, dy = (ys[i] - ny) / ry;
+                    double d = dx * dx + dy * dy;
+                    if (d < bestD || (d == bestD && i > best)) { best = i; bestD = d; }
+                }
+            }
+        }
+        return best;
+    }
+
+    int size() { return xs.length; }
+
+    private int col(double v) {
+        int c = (int) Math.floor(v * side);
+        return c < 0 ? 0 : Math.min(side - 1, c);
+    }
+
+    private int cell(int col, int row) { return row * side + col; }
+}
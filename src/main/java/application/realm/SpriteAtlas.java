@@ -0,0 +1,89 @@
+package application.realm;
+
+import application.assets.ImageCache;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+
+/**
+ * One pre-rendered coin per {@link NodeState} plus a focus ring, laid out side by side in a
+ * single image at the screen's output scale. Reproduces {@link NodeCoin}'s look (white base with
+ * shadow, purple ring, glyph) and the state opacities from realm-map.css. FX thread only.
+ */
+final class SpriteAtlas {
+    static final double CELL = NodeCoin.DIAMETER + 2 * 12; // room for shadow and focus ring
+    private static final double RING_STROKE = 3.0;
+    private static final int FOCUS = NodeState.values().length;
+
+    private final Image glyph;
+    private WritableImage atlas;
+    private double scale;
+
+    SpriteAtlas(Image glyph) { this.glyph = glyph; }
+
+    /** Drop the rendered atlas (e.g. once the glyph finished loading). */
+    void invalidate() { atlas = null; }
+
+    void draw(GraphicsContext g, NodeState state, double cx, double cy) {
+        drawCell(g, state.ordinal(), cx, cy);
+    }
+
+    void drawFocus(GraphicsContext g, double cx, double cy) {
+        drawCell(g, FOCUS, cx, cy);
+    }
+
+    private void drawCell(GraphicsContext g, int cell, double cx, double cy) {
+        if (atlas == null) render();
+        double px = CELL * scale;
+        g.drawImage(atlas, cell * px, 0, px, px, cx - CELL / 2, cy - CELL / 2, CELL, CELL);
+    }
+
+    private void render() {
+        int cells = FOCUS + 1;
+        Canvas c = new Canvas(CELL * cells, CELL);
+        GraphicsContext g = c.getGraphicsContext2D();
+        double d = NodeCoin.DIAMETER;
+        double ringR = (d - RING_STROKE) / 2.0;
+        double baseR = ringR - 3;
+        double inset = Math.max(2.0, d * 0.02);
+        double glyphSize = Math.max(0, baseR * 2 - inset * 2);
+        boolean glyphReady = glyph != null && !glyph.isError() && glyph.getProgress() >= 1.0;
+
+        for (NodeState s : NodeState.values()) {
+            double cx = s.ordinal() * CELL + CELL / 2, cy = CELL / 2;
+            g.setGlobalAlpha(s.opacity());
+
+            g.setEffect(new DropShadow(8, Color.color(0, 0, 0, 0.25)));
+            g.setFill(Color.web("#ffffff"));
+            g.fillOval(cx - baseR, cy - baseR, baseR * 2, baseR * 2);
+            g.setEffect(null);
+
+            g.setStroke(Color.web("#6D28D9"));
+            g.setLineWidth(RING_STROKE);
+            g.strokeOval(cx - ringR, cy - ringR, ringR * 2, ringR * 2);
+
+            if (glyphReady) g.drawImage(glyph, cx - glyphSize / 2, cy - glyphSize / 2, glyphSize, glyphSize);
+        }
+        g.setGlobalAlpha(1);
+
+        // Focus ring, approximating the .node-coin:focused drop shadows.
+        double fx = FOCUS * CELL + CELL / 2, fy = CELL / 2, r = d / 2 + 2;
+        g.setStroke(Color.color(109 / 255.0, 40 / 255.0, 217 / 255.0, 0.65));
+        g.setLineWidth(6);
+        g.strokeOval(fx - r - 3, fy - r - 3, (r + 3) * 2, (r + 3) * 2);
+        g.setStroke(Color.WHITE);
+        g.setLineWidth(2);
+        g.strokeOval(fx - r, fy - r, r * 2, r * 2);
+
+        scale = ImageCache.outputScale();
+        SnapshotParameters sp = new SnapshotParameters();
+        sp.setFill(Color.TRANSPARENT);
+        sp.setTransform(Transform.scale(scale, scale));
+        atlas = c.snapshot(sp, new WritableImage((int) Math.ceil(CELL * cells * scale), (int) Math.ceil(CELL * scale)));
+    }
+}
@@ -0,0 +1,167 @@
+package application.realm;
+
+import javafx.scene.AccessibleRole;
+import javafx.scene.Cursor;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
+import javafx.scene.image.Image;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Draws every map node from a {@link SpriteAtlas} onto one canvas, for realms too large for a
+ * node-per-coin scene graph. Hover, click and keyboard focus resolve through a {@link SpatialGrid};
+ * one shared {@link Tooltip} and label pill are moved to whichever node is hovered or focused.
+ * Arrow keys walk nodes in path order, Enter/Space activates. Nodes outside the canvas are culled.
+ */
+final class SpriteNodeLayer extends Canvas {
+    private final SpriteAtlas atlas;
+    private final double[] xs, ys;     // normalized positions
+    private final NodeState[] states;
+    private final String[] titles, tips;
+    private final SpatialGrid grid;
+    private final Label pill;
+    private static final Font TITLE_FONT = Font.font("Century Gothic", FontWeight.BOLD, 11);
+
+    private final Tooltip tooltip = new Tooltip();
+    private IntConsumer onActivate = i -> { };
+
+    private double offX, offY, cw = 1, ch = 1;
+    private int hover = -1, focus = -1;
+    private boolean tooltipInstalled;
+    private boolean showTitles;
+
+    SpriteNodeLayer(Image glyph, double[] xs, double[] ys, String[] titles, String[] tips, Label pill) {
+        this.atlas = new SpriteAtlas(glyph);
+        this.xs = xs;
+        this.ys = ys;
+        this.titles = titles;
+        this.tips = tips;
+        this.states = new NodeState[xs.length];
+        Arrays.fill(states, NodeState.UNLOCKED);
+        this.grid = new SpatialGrid(xs, ys);
+        this.pill = pill;
+        pill.setManaged(false);
+        pill.setVisible(false);
+
+        setFocusTraversable(true);
+        setAccessibleRole(AccessibleRole.BUTTON);
+        if (glyph != null && glyph.getProgress() < 1.0) {
+            glyph.progressProperty().addListener((o, a, p) -> {
+                if (p.doubleValue() >= 1.0) { atlas.invalidate(); repaint(); }
+            });
+        }
+
+        setOnMouseMoved(this::onMouseMoved);
+        setOnMouseExited(e -> setHover(-1));
+        setOnMouseClicked(e -> {
+            if (!e.isStillSincePress()) return; // end of a pan drag
+            int i = hit(e.getX(), e.getY());
+            if (i >= 0) { requestFocus(); setFocus(i); onActivate.accept(i); }
+        });
+        setOnKeyPressed(e -> {
+            int n = xs.length;
+            if (n == 0) return;
+            KeyCode k = e.getCode();
+            if (k == KeyCode.RIGHT || k == KeyCode.DOWN) setFocus(Math.min(n - 1, focus + 1));
+            else if (k == KeyCode.LEFT || k == KeyCode.UP) setFocus(Math.max(0, focus - 1));
+            else if (k == KeyCode.HOME) setFocus(0);
+            else if (k == KeyCode.END) setFocus(n - 1);
+            else if ((k == KeyCode.ENTER || k == KeyCode.SPACE) && focus >= 0) onActivate.accept(focus);
+            else return;
+            e.consume();
+        });
+        focusedProperty().addListener((o, was, is) -> {
+            if (is && focus < 0 && xs.length > 0) setFocus(0); else repaint();
+        });
+    }
+
+    void setOnActivate(IntConsumer handler) { if (handler != null) this.onActivate = handler; }
+
+    void setState(int i, NodeState s) { states[i] = s; }
+
+    /** Level of detail: draw every visible node's title (set when zoomed in far enough). */
+    void setShowTitles(boolean show) { this.showTitles = show; }
+
+    /** Displayed map rectangle in layer coordinates; nodes map from [0,1]² into it. */
+    void setContentRect(double offX, double offY, double cw, double ch) {
+        this.offX = offX; this.offY = offY;
+        this.cw = Math.max(1, cw); this.ch = Math.max(1, ch);
+    }
+
+    double screenX(int i) { return offX + xs[i] * cw; }
+    double screenY(int i) { return offY + ys[i] * ch; }
+
+    void repaint() {
+        GraphicsContext g = getGraphicsContext2D();
+        double w = getWidth(), h = getHeight();
+        g.clearRect(0, 0, w, h);
+        double r = SpriteAtlas.CELL / 2;
+        g.setFill(Color.WHITE);
+        g.setTextAlign(TextAlignment.CENTER);
+        g.setFont(TITLE_FONT);
+        for (int i = 0; i < xs.length; i++) {
+            double cx = screenX(i), cy = screenY(i);
+            if (cx < -r || cy < -r || cx > w + r || cy > h + r) continue; // outside the viewport
+            atlas.draw(g, states[i], cx, cy);
+            if (showTitles && titles[i] != null) g.fillText(titles[i], cx, cy + NodeCoin.DIAMETER / 2 + 14);
+        }
+        if (focus >= 0 && isFocused()) atlas.drawFocus(g, screenX(focus), screenY(focus));
+        updatePill();
+    }
+
+    private void onMouseMoved(MouseEvent e) {
+        setHover(hit(e.getX(), e.getY()));
+    }
+
+    private int hit(double x, double y) {
+        double r = NodeCoin.DIAMETER / 2;
+        return grid.nearest((x - offX) / cw, (y - offY) / ch, r / cw, r / ch);
+    }
+
+    private void setHover(int i) {
+        if (i == hover) return;
+        hover = i;
+        setCursor(i >= 0 ? Cursor.HAND : Cursor.DEFAULT);
+        if (i >= 0 && titles[i] != null) {
+            tooltip.setText(titles[i] + (tips[i] != null ? "\n" + tips[i] : ""));
+            if (!tooltipInstalled) { Tooltip.install(this, tooltip); tooltipInstalled = true; }
+        } else if (tooltipInstalled) {
+            tooltip.hide();
+            Tooltip.uninstall(this, tooltip);
+            tooltipInstalled = false;
+        }
+        updatePill();
+    }
+
+    private void setFocus(int i) {
+        if (i == focus) return;
+        focus = i;
+        setAccessibleText(i >= 0 ? titles[i] : null);
+        repaint();
+    }
+
+    /** Pill follows the hovered node, else the focused one (same placement rules as the coin layer). */
+    private void updatePill() {
+        int i = hover >= 0 ? hover : (isFocused() ? focus : -1);
+        if (i < 0 || titles[i] == null) { pill.setVisible(false); return; }
+        pill.setText(titles[i] + (tips[i] != null ? " – " + tips[i] : ""));
+        pill.applyCss();
+        pill.autosize();
+        double half = NodeCoin.DIAMETER / 2;
+        double lx = screenX(i) + 8, ly = screenY(i) - half - 8;
+        if (lx + pill.getWidth() > getWidth()) lx = screenX(i) - half - pill.getWidth() - 8;
+        if (ly < 0) ly = screenY(i) + half + 8;
+        pill.relocate(lx, ly);
+        pill.setVisible(true);
+    }
+}
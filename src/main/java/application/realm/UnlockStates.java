@@ -0,0 +1,100 @@
+package application.realm;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Node unlock states for one layout, derived from XP. Thresholds rise with path order, so the
+ * unlock frontier (first node not yet reached) is a binary search, and moving from one XP to
+ * another only revisits the nodes between the old and new frontier. Packs whose thresholds are
+ * not monotonic fall back to a linear pass. Reached nodes that are claimed show as {@link NodeState#CLAIMED}.
+ */
+final class UnlockStates {
+
+    /** Receives each node whose state changed. */
+    interface Change { void apply(int index, NodeState state); }
+
+    private final int[] thresholds;
+    private final boolean sorted;
+    private final NodeState[] states;
+    private final IntPredicate claimed;
+    private int frontier = -1; // -1 until the first update
+
+    UnlockStates(int[] thresholds) {
+        this(thresholds, i -> false);
+    }
+
+    UnlockStates(int[] thresholds, IntPredicate claimed) {
+        this.claimed = claimed;
+        this.thresholds = thresholds.clone();
+        boolean s = true;
+        for (int i = 1; i < thresholds.length && s; i++) s = thresholds[i - 1] <= thresholds[i];
+        this.sorted = s;
+        this.states = new NodeState[thresholds.length];
+    }
+
+    NodeState state(int i) { return states[i]; }
+
+    int size() { return states.length; }
+
+    /** Applies {@code xp}; reports changed nodes (all of them on the first call). Returns true if any changed. */
+    boolean update(int xp, Change change) {
+        int n = states.length;
+        if (!sorted) return updateLinear(xp, change);
+
+        int k = upperBound(thresholds, xp);
+        int lo, hi;
+        if (frontier < 0) { lo = 0; hi = n - 1; }
+        else { lo = Math.min(frontier, k); hi = Math.min(n - 1, Math.max(frontier, k)); }
+        frontier = k;
+
+        boolean any = false;
+        for (int i = lo; i <= hi; i++) {
+            NodeState s = i < k ? reached(i) : i == k ? NodeState.NEXT : NodeState.LOCKED;
+            any |= set(i, s, change);
+        }
+        return any;
+    }
+
+    private boolean updateLinear(int xp, Change change) {
+        boolean any = false, nextAssigned = false;
+        for (int i = 0; i < states.length; i++) {
+            NodeState s;
+            if (xp >= thresholds[i]) s = reached(i);
+            else if (!nextAssigned) { s = NodeState.NEXT; nextAssigned = true; }
+            else s = NodeState.LOCKED;
+            any |= set(i, s, change);
+        }
+        frontier = 0;
+        return any;
+    }
+
+    /** Re-evaluates node {@code i} after it was claimed; only a reached node changes. */
+    boolean claimChanged(int i, Change change) {
+        NodeState s = states[i];
+        return s != null && s.reachable() && set(i, reached(i), change);
+    }
+
+    private NodeState reached(int i) {
+        return claimed.test(i) ? NodeState.CLAIMED : NodeState.UNLOCKED;
+    }
+
+    private boolean set(int i, NodeState s, Change change) {
+        if (states[i] == s) return false;
+        states[i] = s;
+        change.apply(i, s);
+        return true;
+    }
+
+    /** First index whose threshold exceeds {@code xp} (= count of reached nodes). */
+    static int upperBound(int[] sorted, int xp) {
+        int lo = 0, hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= xp) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    @Override public String toString() { return Arrays.toString(states); }
+}
@@ -10,4 +10,9 @@ public interface AvatarService {
      * Implementations decide thresholds and badge rules.
      */
     URL selectAvatar(int totalXp, Set<String> unlockedBadgeIds);
+
+    /** Same choice, resolved to the smallest variant covering {@code devicePx}; defaults to the original. */
+    default URL selectAvatar(int totalXp, Set<String> unlockedBadgeIds, double devicePx) {
+        return selectAvatar(totalXp, unlockedBadgeIds);
+    }
 }
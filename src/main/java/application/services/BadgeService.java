@@ -1,7 +0,0 @@
-
-package application.services;
-
-public interface BadgeService {
-    void ensureDefaults();
-    void evaluateAll();
-}
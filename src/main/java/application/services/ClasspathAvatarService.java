@@ -1,13 +1,21 @@
-
 package application.services;
 
+import application.assets.AssetVariants;
+
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
+/**
+ * Avatar by XP tier, with badge overrides. Every URL is resolved once when the class loads; tiers
+ * whose image is missing are left out (so their range shows the tier below), overrides likewise,
+ * and the missing files are reported once. Selection is a binary search over the tier thresholds.
+ */
 public final class ClasspathAvatarService implements AvatarService {
     private static final String ROOT = "/application/avatar/";
     private record Tier(int minXp, String file) {}
+    private record BadgeSkin(String badgeId, String file) {}
 
 
     private static final List<Tier> TIERS = List.of(
@@ -21,30 +29,77 @@ public final class ClasspathAvatarService implements AvatarService {
             new Tier(4200, "avatar_07.png")
     );
 
+    // Checked in order; the first unlocked badge with an image wins.
+    private static final List<BadgeSkin> OVERRIDES = List.of(
+            new BadgeSkin("winter-scarf", "avatar_scarf.png"),
+            new BadgeSkin("legend",       "avatar_legend.png")
+    );
+
+    private static final List<String> MISSING = new ArrayList<>();
+    private static final int[] TIER_XP;
+    private static final URL[] TIER_URL;
+    private static final String[] OVERRIDE_BADGE;
+    private static final URL[] OVERRIDE_URL;
+
+    static {
+        List<Tier> present = new ArrayList<>();
+        List<URL> urls = new ArrayList<>();
+        for (Tier t : TIERS) {
+            URL u = resource(t.file());
+            if (u == null) continue;
+            present.add(t);
+            urls.add(u);
+        }
+        TIER_XP = new int[present.size()];
+        for (int i = 0; i < TIER_XP.length; i++) TIER_XP[i] = present.get(i).minXp();
+        TIER_URL = urls.toArray(URL[]::new);
+
+        List<String> badges = new ArrayList<>();
+        urls.clear();
+        for (BadgeSkin o : OVERRIDES) {
+            URL u = resource(o.file());
+            if (u == null) continue;
+            badges.add(o.badgeId());
+            urls.add(u);
+        }
+        OVERRIDE_BADGE = badges.toArray(String[]::new);
+        OVERRIDE_URL = urls.toArray(URL[]::new);
+
+        if (!MISSING.isEmpty()) System.out.println("[Avatar] missing assets under " + ROOT + ": " + String.join(", ", MISSING));
+    }
+
+    private static URL resource(String file) {
+        URL u = ClasspathAvatarService.class.getResource(ROOT + file);
+        if (u == null) MISSING.add(file);
+        return u;
+    }
+
+    /** Avatar files referenced by tiers or overrides but not on the classpath. */
+    static List<String> missingAssets() { return List.copyOf(MISSING); }
+
     @Override
     public URL selectAvatar(int totalXp, Set<String> unlockedBadges) {
-
-        if (unlockedBadges != null) {
-            if (unlockedBadges.contains("winter-scarf")) {
-                URL u = get(ROOT + "avatar_scarf.png");
-                if (u != null) return u;
-            }
-            if (unlockedBadges.contains("legend")) {
-                URL u = get(ROOT + "avatar_legend.png");
-                if (u != null) return u;
+        if (unlockedBadges != null && !unlockedBadges.isEmpty()) {
+            for (int i = 0; i < OVERRIDE_BADGE.length; i++) {
+                if (unlockedBadges.contains(OVERRIDE_BADGE[i])) return OVERRIDE_URL[i];
             }
         }
+        return tierFor(totalXp);
+    }
 
-
-        URL best = null;
-        for (Tier t : TIERS) {
-            if (totalXp >= t.minXp()) {
-                URL u = get(ROOT + t.file());
-                if (u != null) best = u;
-            } else break;
+    /** Highest present tier whose threshold is at or below {@code totalXp}; the lowest tier below zero. */
+    static URL tierFor(int totalXp) {
+        if (TIER_URL.length == 0) return null;
+        int lo = 0, hi = TIER_XP.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (TIER_XP[mid] <= totalXp) lo = mid + 1; else hi = mid;
         }
-        return best != null ? best : get(ROOT + TIERS.get(0).file());
+        return TIER_URL[Math.max(0, lo - 1)];
     }
 
-    private URL get(String path) { return getClass().getResource(path); }
+    @Override
+    public URL selectAvatar(int totalXp, Set<String> unlockedBadges, double devicePx) {
+        return AssetVariants.shared().resolve(selectAvatar(totalXp, unlockedBadges), devicePx);
+    }
 }
@@ -1,6 +1,6 @@
 package application.services;
 
-import application.Realm;
+import application.engine.Realm;
 import java.net.URL;
 import java.util.List;
 
@@ -19,7 +19,15 @@ public interface RealmLayoutService {
             String url
     ) {}
 
-    record Layout(URL mapUrl, URL nodeUrl, List<NodeSpec> nodes) {}
+    record Layout(URL mapUrl, URL nodeUrl, List<NodeSpec> nodes) {
+        public Layout { nodes = List.copyOf(nodes); } // shared across screens, never mutated
+    }
 
     Layout loadLayout(Realm realm);
+
+    /**
+     * URL of the smallest stored variant of {@code asset} that still covers {@code devicePx}
+     * (display size × output scale) on its longer edge. Defaults to the asset itself.
+     */
+    default URL variantFor(URL asset, double devicePx) { return asset; }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package application.services;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A realm content pack as stored in {@code /application/realm/packs/<realm>.json}: layout
+ * parameters plus an ordered node list. Read with a streaming {@link JsonReader}, so unknown
+ * keys are skipped and no intermediate tree is built.
+ *
+ * <p>Per node, {@code id}, {@code title} and {@code url} are required; {@code x}/{@code y} (normalized),
+ * {@code threshold} and {@code tooltip} override the computed serpentine placement and XP steps.
+ * Ids must be unique within the pack and never reused: saves key claims by them, so nodes can be
+ * inserted, removed or reordered freely as long as each keeps its id.
+ */
+record RealmPack(int version, int lanes, double yCenter, int xpStep, List<Item> nodes) {
+
+    record Item(String id, String title, String url, Double x, Double y, Integer threshold, String tooltip) {}
+
+    static RealmPack read(Reader in) throws IOException {
+        int version = 0, lanes = 5, xpStep = 100;
+        double yCenter = 0.5;
+        List<Item> nodes = List.of();
+
+        try (JsonReader r = new JsonReader(in)) {
+            r.beginObject();
+            while (r.hasNext()) {
+                switch (r.nextName()) {
+                    case "version"  -> version = r.nextInt();
+                    case "lanes"    -> lanes = Math.max(1, r.nextInt());
+                    case "yCenter"  -> yCenter = r.nextDouble();
+                    case "xpStep"   -> xpStep = r.nextInt();
+                    case "nodes"    -> nodes = readNodes(r);
+                    default         -> r.skipValue(); // realm, description, idPrefix (old packs), future keys
+                }
+            }
+            r.endObject();
+        }
+        return new RealmPack(version, lanes, yCenter, xpStep, nodes);
+    }
+
+    private static List<Item> readNodes(JsonReader r) throws IOException {
+        List<Item> out = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+        r.beginArray();
+        while (r.hasNext()) {
+            String id = null, title = null, url = null, tooltip = null;
+            Double x = null, y = null;
+            Integer threshold = null;
+            r.beginObject();
+            while (r.hasNext()) {
+                String name = r.nextName();
+                if (r.peek() == JsonToken.NULL) { r.nextNull(); continue; }
+                switch (name) {
+                    case "id"        -> id = r.nextString();
+                    case "title"     -> title = r.nextString();
+                    case "url"       -> url = r.nextString();
+                    case "x"         -> x = r.nextDouble();
+                    case "y"         -> y = r.nextDouble();
+                    case "threshold" -> threshold = r.nextInt();
+                    case "tooltip"   -> tooltip = r.nextString();
+                    default          -> r.skipValue();
+                }
+            }
+            r.endObject();
+            if (id == null || id.isBlank()) throw new IOException("Node without id at " + r.getPath());
+            if (!ids.add(id)) throw new IOException("Duplicate node id " + id + " at " + r.getPath());
+            if (title == null) throw new IOException("Node without title at " + r.getPath());
+            out.add(new Item(id, title, url, x, y, threshold, tooltip));
+        }
+        r.endArray();
+        return List.copyOf(out);
+    }
+}
@@ -1,12 +1,20 @@
 package application.theme;
 
-import javafx.beans.value.ChangeListener;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.layout.Region;
 
+import java.util.Locale;
 
+/**
+ * Scales the root font with the window. One controller per scene (kept in the scene's properties),
+ * so attaching again after a root swap only re-applies. Sizes are quantized to {@link #STEP} px and the
+ * inline style is only touched when the step changes, since every change re-styles the whole tree;
+ * resize bursts collapse into one apply per pulse.
+ */
 public final class Responsive {
-    private Responsive() {}
 
     // Baseline window we designed against (tweak if you prefer)
     private static final double BASE_W = 1280.0;
@@ -15,26 +23,75 @@ public final class Responsive {
 
     private static final double MIN_FONT = 12.0;   // clamp so it never gets too small
     private static final double MAX_FONT = 22.0;   // nor too big
+    static final double STEP = 0.5;                // px between font sizes we actually apply
 
+    private static final Object KEY = Responsive.class;
+
+    private final Scene scene;
+    private final InvalidationListener onChange = this::invalidated;
+    private final Runnable applyOnce = this::applyOnPulse;
+    private boolean scheduled;
+    private Parent styledRoot;
+    private double appliedPx = Double.NaN;
+
+    private Responsive(Scene scene) {
+        this.scene = scene;
+        scene.widthProperty().addListener(onChange);
+        scene.heightProperty().addListener(onChange);
+        scene.rootProperty().addListener(onChange);
+    }
+
+    /** Makes {@code scene} responsive; repeated calls reuse the scene's controller. */
     public static void attach(Scene scene) {
         if (scene == null) return;
+        Responsive r = (Responsive) scene.getProperties().get(KEY);
+        if (r == null) {
+            r = new Responsive(scene);
+            scene.getProperties().put(KEY, r);
+        }
+        r.apply(); // initial, or the new root after a swap
+    }
 
-        ChangeListener<Number> relayout = (obs, a, b) -> apply(scene);
-        scene.widthProperty().addListener(relayout);
-        scene.heightProperty().addListener(relayout);
-        apply(scene); // initial
+    /** Removes the scene's controller and its listeners; the current root keeps its font size. */
+    public static void detach(Scene scene) {
+        if (scene == null) return;
+        Responsive r = (Responsive) scene.getProperties().remove(KEY);
+        if (r == null) return;
+        scene.widthProperty().removeListener(r.onChange);
+        scene.heightProperty().removeListener(r.onChange);
+        scene.rootProperty().removeListener(r.onChange);
+        if (r.scheduled) scene.removePreLayoutPulseListener(r.applyOnce);
     }
 
-    private static void apply(Scene scene) {
+    private void invalidated(Observable o) {
+        if (scheduled) return;
+        scheduled = true;
+        scene.addPreLayoutPulseListener(applyOnce);
+    }
+
+    private void applyOnPulse() {
+        scene.removePreLayoutPulseListener(applyOnce);
+        scheduled = false;
+        apply();
+    }
+
+    private void apply() {
         if (!(scene.getRoot() instanceof Region root)) return;
+        double px = fontPx(scene.getWidth(), scene.getHeight());
+        if (px == appliedPx && root == styledRoot) return;
+        appliedPx = px;
+        styledRoot = root;
+        String style = String.format(Locale.ROOT, "-fx-font-size: %.1fpx;", px);
+        if (!style.equals(root.getStyle())) root.setStyle(style);
+    }
 
-        double kx = scene.getWidth()  > 0 ? scene.getWidth()  / BASE_W : 1.0;
-        double ky = scene.getHeight() > 0 ? scene.getHeight() / BASE_H : 1.0;
+    /** Font size for a window of {@code w}×{@code h}, clamped and snapped to {@link #STEP}. */
+    static double fontPx(double w, double h) {
+        double kx = w > 0 ? w / BASE_W : 1.0;
+        double ky = h > 0 ? h / BASE_H : 1.0;
         double k  = Math.min(kx, ky); // keep aspect
         double px = clamp(BASE_FONT * k, MIN_FONT, MAX_FONT);
-
-
-        root.setStyle(String.format("-fx-font-size: %.2fpx;", px));
+        return Math.round(px / STEP) * STEP;
     }
 
     private static double clamp(double v, double lo, double hi) {
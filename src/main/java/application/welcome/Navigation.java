@@ -2,12 +2,14 @@
 package application.welcome;
 
 import application.MainController;
-import application.Realm;
+import application.ViewCache;
+import application.engine.Realm;
+import application.realm.DevReloader;
 import application.realm.RealmMapController;
+import application.realm.RealmPrefetcher;
 import application.services.ClasspathRealmLayoutBridge;
 import application.services.RealmLayoutService;
 import application.theme.Responsive;     // <- import
-import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Screen;
@@ -20,10 +22,12 @@ import java.util.List;
 public class Navigation implements RealmMapController.NavDelegate {
 
     private final Stage stage;
-    private final RealmLayoutService realmLayouts = new ClasspathRealmLayoutBridge();
+    private final RealmLayoutService realmLayouts = ClasspathRealmLayoutBridge.shared();
 
-    private static final String APP_CSS = "/application/theme/app.css";
-    private static final String MAP_CSS = "/application/realm/map.css";
+    private static final String MAIN_FXML = "/application/main.fxml";
+    private static final String MAP_FXML = "/application/realm/RealmMap.fxml";
+    private static final URL APP_CSS = Navigation.class.getResource("/application/theme/app.css");
+    private static final URL MAP_CSS = Navigation.class.getResource("/application/realm/realm-map.css");
 
     public Navigation(Stage stage) {
         this.stage = stage;
@@ -34,7 +38,7 @@ public class Navigation implements RealmMapController.NavDelegate {
         if (scene == null) {
             scene = new Scene(root);
             stage.setScene(scene);
-        } else {
+        } else if (scene.getRoot() != root) {
             scene.setRoot(root);
         }
 
@@ -51,46 +55,60 @@ public class Navigation implements RealmMapController.NavDelegate {
         return scene;
     }
 
-    private void applyTheme(Scene scene, String... extras) {
+    private void applyTheme(Scene scene, URL... extras) {
         List<String> list = new ArrayList<>();
-        URL app = getClass().getResource(APP_CSS);
-        if (app != null) list.add(app.toExternalForm());
-        if (extras != null) {
-            for (String p : extras) {
-                URL u = getClass().getResource(p);
-                if (u != null) list.add(u.toExternalForm());
-            }
+        if (APP_CSS != null) list.add(DevReloader.shared().stylesheet(APP_CSS));
+        for (URL u : extras) {
+            if (u != null) list.add(DevReloader.shared().stylesheet(u));
         }
-        scene.getStylesheets().setAll(list);
+        if (!scene.getStylesheets().equals(list)) scene.getStylesheets().setAll(list);
     }
 
-    public void goToMain() {
+    /**
+     * Builds the main screen in the background of the first frames, so the first navigation is
+     * already a root swap. Realm maps are built by {@link RealmPrefetcher} for the realms the user is
+     * likely to open next. Call once after the stage is shown.
+     */
+    public void warmUp() {
+        ViewCache cache = ViewCache.shared();
+        cache.prefetch(MAIN_FXML, MAP_FXML);
+        RealmPrefetcher.shared().setViewWarmer(r -> cache.warm(() -> mapView(r)));
+        cache.warm(() -> mainView());
+    }
+
+    private ViewCache.View<MainController> mainView() {
         try {
-            FXMLLoader fx = new FXMLLoader(getClass().getResource("/application/main.fxml"));
-            Parent root = fx.load();
-            Scene scene = ensureScene(root);
-            applyTheme(scene);
-            stage.setTitle("Stacked – CS Habits Gamified");
-            MainController controller = fx.getController();
+            return ViewCache.shared().view(MAIN_FXML, null, null);
         } catch (Exception e) {
-            throw new RuntimeException("Failed to load /application/main.fxml", e);
+            throw new RuntimeException("Failed to load " + MAIN_FXML, e);
         }
     }
 
-    public void openRealm(Realm realm) {
+    private ViewCache.View<RealmMapController> mapView(Realm realm) {
         try {
-            FXMLLoader fx = new FXMLLoader(getClass().getResource("/application/realm/RealmMap.fxml"));
-            Parent root = fx.load();
-            Scene scene = ensureScene(root);
-            applyTheme(scene, MAP_CSS);
-            stage.setTitle(realm.display() + " – Map");
-
-            RealmMapController ctl = fx.getController();
-            ctl.init(realm, realmLayouts, this);
+            return ViewCache.shared().<RealmMapController>view(MAP_FXML, realm,
+                    ctl -> ctl.init(realm, realmLayouts, this));
         } catch (Exception e) {
             throw new RuntimeException("Failed to load realm map", e);
         }
     }
 
+    public void goToMain() {
+        var view = mainView();
+        Scene scene = ensureScene(view.root());
+        applyTheme(scene);
+        stage.setTitle("Stacked – CS Habits Gamified");
+        view.controller().onShow();
+    }
+
+    public void openRealm(Realm realm) {
+        // The map refreshes its node states from XP when its root is attached to the scene.
+        RealmPrefetcher.shared().opened(realm);
+        var view = mapView(realm);
+        Scene scene = ensureScene(view.root());
+        applyTheme(scene, MAP_CSS);
+        stage.setTitle(realm.display() + " – Map");
+    }
+
     @Override public void backToHub() { goToMain(); }
 }
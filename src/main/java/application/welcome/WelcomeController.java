@@ -1,7 +1,7 @@
 
 package application.welcome;
 
-import application.LocalStore;
+import application.engine.LocalStore;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.TextField;
@@ -1,7 +1,7 @@
 
 package application.welcome;
 
-import application.LocalStore;
+import application.engine.LocalStore;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -40,6 +40,7 @@ public class WelcomeLauncher extends Application {
             try { controller.getClass().getMethod("setNavigator", Navigation.class).invoke(controller, nav); }
             catch (NoSuchMethodException ignored) { /* no-op */ }
         }
+        nav.warmUp();
     }
 
     public static void main(String[] args) { launch(args); }
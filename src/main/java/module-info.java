@@ -5,9 +5,13 @@ module application {
     requires java.desktop; // Desktop.browse for resource links
 
     // Expose base package
-    opens application to javafx.fxml, com.google.gson;
+    opens application to javafx.fxml;
     exports application;
 
+    // Headless engine: model, storage, rules. No JavaFX imports; Gson reflects over the save model.
+    opens application.engine to com.google.gson;
+    exports application.engine;
+
     // FXML controllers
     opens application.welcome to javafx.fxml;
     opens application.realm to javafx.fxml;
@@ -18,4 +22,6 @@ module application {
     exports application.welcome;
     exports application.realm;
     exports application.hub;
+    exports application.history;
+    exports application.assets;
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package application;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StartupPipelineTest {
+
+    @Test
+    void report_lists_phases_in_start_order() {
+        long ms = 1_000_000L;
+        var t = new StartupPipeline.Timings(0);
+        t.record("show", 40 * ms, 45 * ms);
+        t.record("store", 2 * ms, 30 * ms);
+        t.record("fonts", 1 * ms, 12 * ms);
+
+        String[] lines = t.report().split("\\R");
+        assertEquals("[startup]", lines[0]);
+        assertTrue(lines[1].contains("fonts") && lines[1].contains("+    1 ms") && lines[1].contains("   11 ms"), lines[1]);
+        assertTrue(lines[2].contains("store") && lines[2].contains("   28 ms"), lines[2]);
+        assertTrue(lines[3].contains("show") && lines[3].contains("+   40 ms"), lines[3]);
+    }
+
+    @Test
+    void timed_work_is_recorded_even_when_it_throws() {
+        var t = new StartupPipeline.Timings(System.nanoTime());
+        assertEquals(7, t.time("ok", () -> 7));
+        assertThrows(IllegalStateException.class, () -> t.time("boom", () -> { throw new IllegalStateException(); }));
+        String report = t.report();
+        assertTrue(report.contains("ok") && report.contains("boom"), report);
+    }
+}
@@ -0,0 +1,60 @@
+package application.engine;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BadgeAggregatesTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    private static List<TaskEntry> history() {
+        List<TaskEntry> out = new ArrayList<>();
+        out.add(new TaskEntry(TaskType.HYDRATION, 600, T0));
+        out.add(new TaskEntry(TaskType.STUDY, 45, T0.plusHours(1)));
+        out.add(new TaskEntry(TaskType.HYDRATION, 500, T0.plusHours(2)));
+        out.add(new TaskEntry(TaskType.STUDY, 20, T0.plusDays(1)));
+        return out;
+    }
+
+    @Test
+    void restored_state_matches_a_full_rebuild() {
+        List<TaskEntry> entries = history();
+        BadgeAggregates built = new BadgeAggregates();
+        built.catchUp(entries);
+
+        // Round-trip through JSON the way the sidecar cache stores it.
+        Gson gson = new Gson();
+        var state = gson.fromJson(gson.toJson(built.state()), BadgeAggregates.State.class);
+        BadgeAggregates restored = new BadgeAggregates();
+        restored.restore(state, entries);
+
+        assertFalse(restored.catchUp(entries)); // nothing left to fold in
+        assertEquals(built.totalTasks(), restored.totalTasks());
+        assertEquals(built.studyMinutes(), restored.studyMinutes());
+        assertEquals(1100, restored.bestHydrationDay());
+        assertFalse(restored.backToBackStudy());
+    }
+
+    @Test
+    void restored_state_keeps_folding_new_entries() {
+        List<TaskEntry> entries = history();
+        BadgeAggregates built = new BadgeAggregates();
+        built.catchUp(entries);
+        BadgeAggregates restored = new BadgeAggregates();
+        restored.restore(built.state(), entries);
+
+        // A study session logged between the two existing ones needs the restored timeline.
+        entries.add(new TaskEntry(TaskType.STUDY, 30, T0.plusHours(5)));
+        entries.add(new TaskEntry(TaskType.HYDRATION, 200, T0.plusHours(3)));
+        assertTrue(restored.catchUp(entries));
+        assertTrue(restored.backToBackStudy());
+        assertEquals(1300, restored.bestHydrationDay());
+        assertEquals(6, restored.totalTasks());
+    }
+}
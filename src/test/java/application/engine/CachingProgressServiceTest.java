@@ -0,0 +1,70 @@
+package application.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingProgressServiceTest {
+
+    private final CachingProgressService svc = CachingProgressService.shared();
+
+    @BeforeEach
+    void fresh() {
+        LocalStore.getInstance().resetForTests();
+    }
+
+    @Test
+    void reads_reuse_the_snapshot_until_xp_changes() {
+        var first = svc.getAllRealmSummaries();
+        assertSame(first, svc.getAllRealmSummaries());
+        assertSame(svc.getRealmSummary(Realm.MEMORY), svc.getRealmSummary(Realm.MEMORY));
+
+        LocalStore.getInstance().profile().addRealmXp(Realm.MEMORY, 250);
+        var next = svc.getAllRealmSummaries();
+        assertNotSame(first, next);
+        var memory = svc.getRealmSummary(Realm.MEMORY);
+        assertEquals(250, memory.realmXp());
+        assertEquals(XpService.levelForXp(250), memory.level());
+        assertEquals(Realm.values().length, next.size());
+    }
+
+    @Test
+    void a_new_profile_invalidates_the_snapshot() {
+        LocalStore.getInstance().profile().addRealmXp(Realm.STACK, 90);
+        assertEquals(90, svc.getRealmSummary(Realm.STACK).realmXp());
+        LocalStore.getInstance().resetForTests(); // fresh profile, version back at 0
+        assertEquals(0, svc.getRealmSummary(Realm.STACK).realmXp());
+    }
+
+    @Test
+    void reads_do_not_wait_for_the_store_lock() throws Exception {
+        svc.getAllRealmSummaries();
+        LocalStore store = LocalStore.getInstance();
+        CountDownLatch held = new CountDownLatch(1), release = new CountDownLatch(1);
+        Thread saver = new Thread(() -> {
+            synchronized (store) { // stands in for a slow saveSafe()
+                held.countDown();
+                try { release.await(); } catch (InterruptedException ignored) { }
+            }
+        });
+        saver.start();
+        try {
+            held.await();
+            var read = CompletableFuture.supplyAsync(() -> svc.getRealmSummary(Realm.SYSTEMS));
+            assertEquals(0, read.get(2, TimeUnit.SECONDS).realmXp());
+        } finally {
+            release.countDown();
+            saver.join();
+        }
+    }
+
+    @Test
+    void summaries_list_is_immutable() {
+        assertThrows(UnsupportedOperationException.class, () -> svc.getAllRealmSummaries().clear());
+    }
+}
@@ -0,0 +1,54 @@
+package application.engine;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClaimedNodesTest {
+
+    @Test
+    void claim_and_count_per_realm() {
+        ClaimedNodes c = new ClaimedNodes();
+        assertTrue(c.claim(Realm.ALGORITHMS, 16));
+        assertFalse(c.claim(Realm.ALGORITHMS, 16));
+        assertTrue(c.claim(Realm.ALGORITHMS, 0));
+        assertTrue(c.claim(Realm.STACK, 200));
+        assertTrue(c.isClaimed(Realm.ALGORITHMS, 16));
+        assertFalse(c.isClaimed(Realm.MEMORY, 16));
+        assertEquals(2, c.count(Realm.ALGORITHMS));
+        assertEquals(3, c.total());
+    }
+
+    @Test
+    void legacy_keys_are_migrated() {
+        ClaimedNodes c = new ClaimedNodes();
+        NodeOrdinals ordinals = new NodeOrdinals();
+        for (String key : Set.of("ALGORITHMS:alg-17", "STACK:ds-2", "STACK:custom", "NOPE:x-1", "broken")) {
+            c.claimLegacy(key, ordinals);
+        }
+        assertTrue(c.isClaimed(Realm.ALGORITHMS, 16));
+        assertTrue(c.isClaimed(Realm.STACK, 1));
+        assertEquals(2, c.total());
+        assertEquals(16, ordinals.ordinal(Realm.ALGORITHMS, "alg-17", 0));
+    }
+
+    @Test
+    void json_round_trip_keeps_bits() {
+        Gson gson = new GsonBuilder().registerTypeAdapter(ClaimedNodes.class, new ClaimedNodesAdapter()).create();
+        ClaimedNodes c = new ClaimedNodes();
+        c.claim(Realm.SYSTEMS, 3);
+        c.claim(Realm.SYSTEMS, 130);
+        c.claim(Realm.MEMORY, 0);
+
+        ClaimedNodes back = gson.fromJson(gson.toJson(c), ClaimedNodes.class);
+        assertTrue(back.isClaimed(Realm.SYSTEMS, 3));
+        assertTrue(back.isClaimed(Realm.SYSTEMS, 130));
+        assertTrue(back.isClaimed(Realm.MEMORY, 0));
+        assertEquals(3, back.total());
+        assertEquals(0, gson.fromJson("{\"GONE\":[1]}", ClaimedNodes.class).total());
+    }
+}
@@ -0,0 +1,114 @@
+package application.engine;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DailyRollupsTest {
+
+    @Test
+    void empty_rollups_sum_to_zero() {
+        DailyRollups r = new DailyRollups();
+        assertTrue(r.isEmpty());
+        assertEquals(0, r.sum(TaskType.STUDY, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)));
+        assertEquals(3, r.dailySums(TaskType.STUDY, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 3)).length);
+    }
+
+    @Test
+    void week_window_sums_and_counts() {
+        DailyRollups r = new DailyRollups();
+        LocalDate mon = LocalDate.of(2025, 9, 1);
+        r.add(TaskType.STUDY, mon, 25);
+        r.add(TaskType.STUDY, mon, 50);
+        r.add(TaskType.STUDY, mon.plusDays(3), 30);
+        r.add(TaskType.HYDRATION, mon.plusDays(3), 500);
+        r.add(TaskType.STUDY, mon.plusDays(7), 60); // next week
+
+        assertEquals(105, r.sum(TaskType.STUDY, mon, mon.plusDays(6)));
+        assertEquals(3, r.count(TaskType.STUDY, mon, mon.plusDays(6)));
+        assertEquals(500, r.sum(TaskType.HYDRATION, mon, mon.plusDays(6)));
+        assertEquals(4, r.count(null, mon, mon.plusDays(6)));
+        assertArrayEquals(new long[]{75, 0, 0, 30}, r.dailySums(TaskType.STUDY, mon, mon.plusDays(3)));
+    }
+
+    @Test
+    void back_dated_and_far_future_logs_rebase_the_trees() {
+        DailyRollups r = new DailyRollups();
+        LocalDate base = LocalDate.of(2025, 6, 1);
+        r.add(TaskType.BREAK, base, 5);
+        r.add(TaskType.BREAK, base.minusDays(400), 10);  // before origin
+        r.add(TaskType.BREAK, base.plusDays(900), 15);   // past capacity
+        assertEquals(30, r.sum(TaskType.BREAK, base.minusDays(500), base.plusDays(1000)));
+        assertEquals(10, r.sum(TaskType.BREAK, base.minusDays(400), base.minusDays(400)));
+        assertEquals(15, r.sum(TaskType.BREAK, base.plusDays(1), base.plusDays(900)));
+    }
+
+    @Test
+    void matches_naive_scan_for_random_windows() {
+        DailyRollups r = new DailyRollups();
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        long[] naive = new long[730];
+        Random rng = new Random(7);
+        for (int i = 0; i < 2_000; i++) {
+            int day = rng.nextInt(naive.length);
+            int amount = 1 + rng.nextInt(120);
+            naive[day] += amount;
+            r.add(TaskType.STUDY, start.plusDays(day), amount);
+        }
+        for (int q = 0; q < 200; q++) {
+            int a = rng.nextInt(naive.length), b = rng.nextInt(naive.length);
+            int from = Math.min(a, b), to = Math.max(a, b);
+            long expected = 0;
+            for (int d = from; d <= to; d++) expected += naive[d];
+            assertEquals(expected, r.sum(TaskType.STUDY, start.plusDays(from), start.plusDays(to)));
+        }
+    }
+
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapter(DailyRollups.class, new DailyRollupsAdapter()).create();
+
+    @Test
+    void json_keeps_only_active_days_and_round_trips() {
+        DailyRollups r = new DailyRollups();
+        LocalDate start = LocalDate.of(2024, 3, 1);
+        Random rng = new Random(11);
+        for (int i = 0; i < 300; i++) {
+            TaskType type = TaskType.values()[rng.nextInt(TaskType.values().length)];
+            r.add(type, start.plusDays(rng.nextInt(400)), rng.nextInt(90));
+        }
+        r.add(TaskType.BREAK, start.minusDays(50), 0); // a zero-amount log still counts
+
+        JsonObject json = GSON.toJsonTree(r).getAsJsonObject();
+        assertFalse(json.has("counts"));
+        int stored = 0;
+        for (var t : json.getAsJsonObject("types").entrySet()) stored += t.getValue().getAsJsonObject().getAsJsonArray("day").size();
+        assertTrue(stored <= 301, "stored " + stored + " days");
+
+        DailyRollups back = GSON.fromJson(json, DailyRollups.class);
+        assertEquals(r.firstDay(), back.firstDay());
+        LocalDate from = start.minusDays(60), to = start.plusDays(410);
+        for (TaskType type : TaskType.values()) {
+            assertArrayEquals(r.dailySums(type, from, to), back.dailySums(type, from, to), type.name());
+            assertEquals(r.count(type, from, to), back.count(type, from, to));
+        }
+        assertEquals(1, back.count(TaskType.BREAK, start.minusDays(50), start.minusDays(50)));
+
+        back.add(TaskType.STUDY, start.plusDays(2_000), 7); // trees stay live after a load
+        assertEquals(7, back.sum(TaskType.STUDY, start.plusDays(2_000), start.plusDays(2_000)));
+    }
+
+    @Test
+    void empty_and_legacy_json_load_as_empty() {
+        assertTrue(GSON.fromJson(GSON.toJson(new DailyRollups()), DailyRollups.class).isEmpty());
+        String rawTrees = "{\"originDay\": 20000, \"capacity\": 128, \"counts\": [[0, 1]], \"sums\": [[0, 5]]}";
+        assertTrue(GSON.fromJson(rawTrees, DailyRollups.class).isEmpty());
+        String badShape = "{\"origin\": 20000, \"capacity\": 100, \"types\": {}}";
+        assertTrue(GSON.fromJson(badShape, DailyRollups.class).isEmpty());
+    }
+}
@@ -0,0 +1,43 @@
+package application.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** The engine must stay loadable without the FX toolkit: no JavaFX/AWT and no imports from UI packages. */
+public class EngineHeadlessTest {
+
+    private static final Path SOURCES = Path.of("src/main/java/application/engine");
+    private static final Pattern FORBIDDEN = Pattern.compile(
+            "^import (static )?(javafx\\.|java\\.awt\\.|javax\\.imageio\\.|application\\.(?!engine\\.))", Pattern.MULTILINE);
+
+    @Test
+    void engine_sources_do_not_import_ui_code() throws IOException {
+        assertTrue(Files.isDirectory(SOURCES), "run from the project root");
+        List<String> offenders = new ArrayList<>();
+        try (Stream<Path> files = Files.list(SOURCES)) {
+            for (Path f : (Iterable<Path>) files.filter(p -> p.toString().endsWith(".java"))::iterator) {
+                var m = FORBIDDEN.matcher(Files.readString(f));
+                while (m.find()) offenders.add(f.getFileName() + ": " + m.group());
+            }
+        }
+        assertEquals(List.of(), offenders);
+    }
+
+    @Test
+    void store_and_rules_run_without_the_toolkit() {
+        LocalStore store = LocalStore.getInstance();
+        store.resetForTests();
+        new LocalBadgeBridge().evaluateAll();
+        assertEquals(1, XpService.levelForXp(0));
+        assertNotNull(CachingProgressService.shared().getRealmSummary(Realm.ALGORITHMS));
+    }
+}
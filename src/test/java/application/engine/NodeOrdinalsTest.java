@@ -0,0 +1,71 @@
+package application.engine;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NodeOrdinalsTest {
+
+    private static int ord(NodeOrdinals o, ClaimedNodes c, String id) {
+        return o.ordinal(Realm.ALGORITHMS, id, c.extent(Realm.ALGORITHMS));
+    }
+
+    @Test
+    void suffix_parsing() {
+        assertEquals(0, NodeOrdinals.suffixOrdinal("alg-1"));
+        assertEquals(16, NodeOrdinals.suffixOrdinal("alg-17"));
+        assertEquals(-1, NodeOrdinals.suffixOrdinal("alg-"));
+        assertEquals(-1, NodeOrdinals.suffixOrdinal("custom"));
+        assertEquals(-1, NodeOrdinals.suffixOrdinal("alg-x1"));
+    }
+
+    @Test
+    void mid_pack_insert_keeps_existing_claims_on_their_nodes() {
+        NodeOrdinals o = new NodeOrdinals();
+        ClaimedNodes c = new ClaimedNodes();
+        for (String id : List.of("alg-1", "alg-2", "alg-3")) ord(o, c, id);
+        c.claim(Realm.ALGORITHMS, ord(o, c, "alg-2"));
+        c.claim(Realm.ALGORITHMS, ord(o, c, "alg-3"));
+
+        // New pack: a node inserted at the front, another between alg-1 and alg-2, alg-3 moved up.
+        List<String> next = List.of("intro", "alg-1", "two-pointers", "alg-3", "alg-2");
+        for (String id : next) ord(o, c, id);
+
+        assertTrue(c.isClaimed(Realm.ALGORITHMS, ord(o, c, "alg-2")));
+        assertTrue(c.isClaimed(Realm.ALGORITHMS, ord(o, c, "alg-3")));
+        assertFalse(c.isClaimed(Realm.ALGORITHMS, ord(o, c, "alg-1")));
+        assertFalse(c.isClaimed(Realm.ALGORITHMS, ord(o, c, "intro")));
+        assertFalse(c.isClaimed(Realm.ALGORITHMS, ord(o, c, "two-pointers")));
+        assertEquals(5, next.stream().mapToInt(id -> ord(o, c, id)).distinct().count());
+    }
+
+    @Test
+    void unregistered_legacy_claims_are_not_handed_to_new_ids() {
+        NodeOrdinals o = new NodeOrdinals();
+        ClaimedNodes c = new ClaimedNodes();
+        c.claim(Realm.ALGORITHMS, 1); // "alg-2" under the old positional scheme, not registered yet
+
+        assertEquals(0, ord(o, c, "alg-1"));
+        assertEquals(2, ord(o, c, "intro"));
+        assertEquals(1, ord(o, c, "alg-2"));
+        assertEquals(3, ord(o, c, "alg-3")); // its hint went to "intro"
+    }
+
+    @Test
+    void json_round_trip_keeps_assignments() {
+        Gson gson = new GsonBuilder().registerTypeAdapter(NodeOrdinals.class, new NodeOrdinalsAdapter()).create();
+        NodeOrdinals o = new NodeOrdinals();
+        o.ordinal(Realm.STACK, "ds-4", 0);
+        o.ordinal(Realm.STACK, "custom", 0);
+
+        NodeOrdinals back = gson.fromJson(gson.toJson(o), NodeOrdinals.class);
+        assertEquals(3, back.ordinal(Realm.STACK, "ds-4", 0));
+        assertEquals(4, back.ordinal(Realm.STACK, "custom", 0));
+        assertEquals(5, back.ordinal(Realm.STACK, "ds-4x", 0));
+        assertEquals(0, gson.fromJson("{\"GONE\":{\"a-1\":0}}", NodeOrdinals.class).entries().size());
+    }
+}
@@ -1,4 +1,4 @@
-package application;
+package application.engine;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -94,4 +94,45 @@ public class StreakServiceTest {
         for (int i = 7; i < 14; i++) svc.recordActivity(start.plusDays(i));
         assertEquals(LocalStore.getInstance().lastActiveDate().plusDays(1), svc.getNextMilestoneDate());
     }
-}
\ No newline at end of file
+
+    @Test
+    void back_dated_log_heals_gap() {
+        StreakService svc = StreakService.getInstance();
+        svc.recordActivity(LocalDate.of(2025, 9, 1));
+        svc.recordActivity(LocalDate.of(2025, 9, 3));
+        assertEquals(1, svc.getStreakDays());
+        svc.recordActivity(LocalDate.of(2025, 9, 2)); // fills the hole
+        assertEquals(3, svc.getStreakDays());
+        assertEquals(LocalDate.of(2025, 9, 3), LocalStore.getInstance().lastActiveDate());
+    }
+
+    @Test
+    void longest_streak_survives_reset() {
+        StreakService svc = StreakService.getInstance();
+        LocalDate start = LocalDate.of(2025, 9, 1);
+        for (int i = 0; i < 5; i++) svc.recordActivity(start.plusDays(i));
+        svc.recordActivity(start.plusDays(10));
+        assertEquals(1, svc.getStreakDays());
+        assertEquals(5, svc.getLongestStreak());
+    }
+
+    @Test
+    void streak_as_of_date() {
+        StreakService svc = StreakService.getInstance();
+        LocalDate start = LocalDate.of(2025, 9, 1);
+        for (int i = 0; i < 4; i++) svc.recordActivity(start.plusDays(i));
+        assertEquals(2, svc.getStreakAsOf(start.plusDays(1)));
+        assertEquals(4, svc.getStreakAsOf(start.plusDays(4))); // not logged yet, streak still alive
+        assertEquals(0, svc.getStreakAsOf(start.plusDays(5)));
+    }
+
+    @Test
+    void gap_detection_for_comeback() {
+        StreakService svc = StreakService.getInstance();
+        svc.recordActivity(LocalDate.of(2025, 9, 1));
+        svc.recordActivity(LocalDate.of(2025, 9, 7));
+        assertFalse(svc.hasGapAtLeast(7));
+        svc.recordActivity(LocalDate.of(2025, 9, 14));
+        assertTrue(svc.hasGapAtLeast(7));
+    }
+}
@@ -1,4 +1,4 @@
-package application;
+package application.engine;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -0,0 +1,61 @@
+package application.history;
+
+import application.engine.LocalStore;
+import application.engine.TaskEntry;
+import application.engine.TaskType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HistoryIndexTest {
+
+    @BeforeEach
+    void reset() {
+        LocalStore.getInstance().resetForTests();
+        LocalStore store = LocalStore.getInstance();
+        store.addEntry(new TaskEntry(TaskType.STUDY, 50, LocalDateTime.of(2025, 9, 3, 10, 0)));
+        store.addEntry(new TaskEntry(TaskType.HYDRATION, 250, LocalDateTime.of(2025, 9, 1, 9, 0)));
+        store.addEntry(new TaskEntry(TaskType.STUDY, 25, LocalDateTime.of(2025, 9, 2, 8, 30)));
+        store.addEntry(new TaskEntry(TaskType.BREAK, 5, LocalDateTime.of(2025, 9, 2, 12, 0)));
+    }
+
+    @Test
+    void sorts_by_when_both_directions() {
+        var idx = HistoryIndex.getInstance();
+        assertArrayEquals(new int[]{1, 2, 3, 0}, idx.query(HistoryIndex.Filter.ALL, HistoryIndex.SortKey.WHEN, true));
+        assertArrayEquals(new int[]{0, 3, 2, 1}, idx.query(HistoryIndex.Filter.ALL, HistoryIndex.SortKey.WHEN, false));
+    }
+
+    @Test
+    void ties_keep_log_order_both_directions() {
+        var idx = HistoryIndex.getInstance();
+        assertArrayEquals(new int[]{0, 2, 1, 3}, idx.query(HistoryIndex.Filter.ALL, HistoryIndex.SortKey.TYPE, true));
+        assertArrayEquals(new int[]{3, 1, 0, 2}, idx.query(HistoryIndex.Filter.ALL, HistoryIndex.SortKey.TYPE, false));
+    }
+
+    @Test
+    void filters_by_type_date_and_amount() {
+        var idx = HistoryIndex.getInstance();
+        var study = new HistoryIndex.Filter(TaskType.STUDY, null, null, null, null);
+        assertArrayEquals(new int[]{2, 0}, idx.query(study, HistoryIndex.SortKey.AMOUNT, true));
+
+        var sept2 = new HistoryIndex.Filter(null, LocalDate.of(2025, 9, 2), LocalDate.of(2025, 9, 2), null, null);
+        assertArrayEquals(new int[]{2, 3}, idx.query(sept2, HistoryIndex.SortKey.WHEN, true));
+
+        var big = new HistoryIndex.Filter(null, null, null, 30, null);
+        assertArrayEquals(new int[]{0, 1}, idx.query(big, HistoryIndex.SortKey.WHEN, false));
+    }
+
+    @Test
+    void picks_up_appended_entries() {
+        var idx = HistoryIndex.getInstance();
+        assertEquals(4, idx.query(HistoryIndex.Filter.ALL, HistoryIndex.SortKey.WHEN, true).length);
+        LocalStore.getInstance().addEntry(new TaskEntry(TaskType.BREAK, 10, LocalDateTime.of(2025, 8, 31, 7, 0)));
+        int[] rows = idx.query(HistoryIndex.Filter.ALL, HistoryIndex.SortKey.WHEN, true);
+        assertArrayEquals(new int[]{4, 1, 2, 3, 0}, rows);
+    }
+}
@@ -0,0 +1,59 @@
+package application.realm;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LinkOpenerTest {
+
+    private static final Executor DIRECT = Runnable::run;
+    private long now = 0;
+
+    private LinkOpener opener() {
+        return new LinkOpener(DIRECT, DIRECT, () -> now);
+    }
+
+    @Test
+    void repeated_activation_of_one_node_is_debounced() {
+        LinkOpener links = opener();
+        List<String> opened = new ArrayList<>();
+        assertTrue(links.open("alg-1", "https://a", opened::add, m -> { }));
+        now += TimeUnit.MILLISECONDS.toNanos(100);
+        assertFalse(links.open("alg-1", "https://a", opened::add, m -> { }));
+        assertTrue(links.open("alg-2", "https://b", opened::add, m -> { })); // other nodes are independent
+        now += TimeUnit.MILLISECONDS.toNanos(LinkOpener.DEBOUNCE_MS);
+        assertTrue(links.open("alg-1", "https://a", opened::add, m -> { }));
+        assertEquals(List.of("https://a", "https://b", "https://a"), opened);
+    }
+
+    @Test
+    void failures_are_reported_not_thrown() {
+        List<String> reports = new ArrayList<>();
+        opener().open("alg-1", "https://x", url -> { throw new IllegalStateException("no browser"); }, reports::add);
+        assertEquals(1, reports.size());
+        assertTrue(reports.get(0).contains("https://x"));
+    }
+
+    @Test
+    void blank_links_are_ignored() {
+        assertFalse(opener().open("alg-1", " ", url -> fail("should not open"), m -> { }));
+    }
+
+    @Test
+    void open_never_blocks_the_caller() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        LinkOpener links = new LinkOpener(DIRECT, Thread::startVirtualThread, System::nanoTime);
+        long t0 = System.nanoTime();
+        assertTrue(links.open("alg-1", "https://slow", url -> {
+            try { release.await(); } catch (InterruptedException ignored) { }
+        }, m -> { }));
+        assertTrue(System.nanoTime() - t0 < TimeUnit.SECONDS.toNanos(1));
+        release.countDown();
+    }
+}
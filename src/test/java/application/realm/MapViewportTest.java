@@ -0,0 +1,55 @@
+package application.realm;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapViewportTest {
+
+    /** Screen position of content point (x, y) under the viewport, pivoting at the view centre. */
+    private static double[] toScreen(MapViewport v, double w, double h, double x, double y) {
+        return new double[]{
+                w / 2 + (x - w / 2) * v.zoom() + v.translateX(),
+                h / 2 + (y - h / 2) * v.zoom() + v.translateY()};
+    }
+
+    @Test
+    void zoom_keeps_point_under_cursor_fixed() {
+        MapViewport v = new MapViewport();
+        v.setViewSize(800, 600);
+        assertTrue(v.zoomAt(200, 150, 2.0));
+        double[] p = toScreen(v, 800, 600, 200, 150);
+        assertEquals(200, p[0], 1e-9);
+        assertEquals(150, p[1], 1e-9);
+
+        // Second zoom anchored elsewhere: the content point under that cursor stays put too.
+        double cx = 500, cy = 400;
+        double contentX = 400 + (cx - 400 - v.translateX()) / v.zoom();
+        double contentY = 300 + (cy - 300 - v.translateY()) / v.zoom();
+        v.zoomAt(cx, cy, 1.5);
+        p = toScreen(v, 800, 600, contentX, contentY);
+        assertEquals(cx, p[0], 1e-9);
+        assertEquals(cy, p[1], 1e-9);
+    }
+
+    @Test
+    void zoom_is_bounded_and_pan_is_clamped() {
+        MapViewport v = new MapViewport();
+        v.setViewSize(800, 600);
+        assertFalse(v.zoomAt(400, 300, 0.5)); // already at minimum
+        assertFalse(v.panBy(50, 50));         // nothing to pan at zoom 1
+
+        v.zoomAt(400, 300, 100);
+        assertEquals(MapViewport.MAX_ZOOM, v.zoom());
+        assertTrue(v.showAllLabels());
+
+        v.panBy(1e6, -1e6);
+        assertEquals((MapViewport.MAX_ZOOM - 1) * 400, v.translateX(), 1e-9);
+        assertEquals(-(MapViewport.MAX_ZOOM - 1) * 300, v.translateY(), 1e-9);
+
+        assertTrue(v.reset());
+        assertEquals(1.0, v.zoom());
+        assertEquals(0, v.translateX());
+        assertFalse(v.showAllLabels());
+    }
+}
@@ -0,0 +1,102 @@
+package application.realm;
+
+import application.engine.Realm;
+import application.services.ClasspathRealmLayoutBridge;
+import application.services.RealmLayoutService.NodeSpec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NodeSpecDiffTest {
+
+    private static NodeSpec spec(String id, double x) {
+        return new NodeSpec(id, x, 0.5, id.toUpperCase(), null, "node-locked", 0, null);
+    }
+
+    @Test
+    void identical_lists_are_empty() {
+        var a = List.of(spec("a", 0.1), spec("b", 0.2));
+        assertTrue(NodeSpecDiff.of(a, List.copyOf(a)).isEmpty());
+    }
+
+    @Test
+    void add_remove_and_move_are_reported_by_id() {
+        var before = List.of(spec("a", 0.1), spec("b", 0.2), spec("c", 0.3));
+        var after = List.of(spec("a", 0.1), spec("c", 0.35), spec("d", 0.4));
+        NodeSpecDiff d = NodeSpecDiff.of(before, after);
+        assertEquals(List.of("d"), d.added().stream().map(NodeSpec::id).toList());
+        assertEquals(List.of("b"), d.removed());
+        assertEquals(List.of("c"), d.changed().stream().map(NodeSpec::id).toList());
+        assertFalse(d.reordered());
+    }
+
+    @Test
+    void reordering_survivors_is_detected() {
+        var before = List.of(spec("a", 0.1), spec("b", 0.2));
+        var after = List.of(spec("b", 0.2), spec("a", 0.1));
+        NodeSpecDiff d = NodeSpecDiff.of(before, after);
+        assertTrue(d.reordered());
+        assertTrue(d.changed().isEmpty());
+        assertFalse(d.isEmpty());
+    }
+
+    @Test
+    void mid_pack_insert_is_a_single_add() {
+        var before = List.of(spec("a", 0.1), spec("b", 0.2), spec("c", 0.3));
+        var after = List.of(spec("a", 0.1), spec("x", 0.15), spec("b", 0.2), spec("c", 0.3));
+        NodeSpecDiff d = NodeSpecDiff.of(before, after);
+        assertEquals(List.of("x"), d.added().stream().map(NodeSpec::id).toList());
+        assertTrue(d.removed().isEmpty());
+        assertTrue(d.changed().isEmpty());
+        assertFalse(d.reordered());
+    }
+
+    @Test
+    void moving_one_node_is_a_reorder_only() {
+        var before = List.of(spec("a", 0.1), spec("b", 0.2), spec("c", 0.3), spec("d", 0.4));
+        var after = List.of(spec("a", 0.1), spec("c", 0.3), spec("b", 0.2), spec("d", 0.4));
+        NodeSpecDiff d = NodeSpecDiff.of(before, after);
+        assertTrue(d.reordered());
+        assertTrue(d.added().isEmpty());
+        assertTrue(d.removed().isEmpty());
+        assertTrue(d.changed().isEmpty());
+    }
+
+    @Test
+    void pack_edit_with_pinned_placement_diffs_minimally(@TempDir Path dir) throws IOException {
+        String node = "{ \"id\": \"%s\", \"title\": \"%s\", \"x\": %s, \"y\": 0.5, \"threshold\": %d, \"tooltip\": \"t\" }";
+        String a = node.formatted("s-1", "A", "0.2", 0), b = node.formatted("s-2", "B", "0.3", 10);
+        String c = node.formatted("s-3", "C", "0.4", 20), e = node.formatted("s-4", "E", "0.6", 40);
+        String x = node.formatted("s-new", "X", "0.5", 30);
+        Path pack = Files.createDirectories(dir.resolve("packs")).resolve("stack.json");
+
+        String old = System.setProperty("stacked.devDir", dir.toString());
+        try {
+            var bridge = new ClasspathRealmLayoutBridge();
+            Files.writeString(pack, "{ \"nodes\": [" + String.join(",", a, b, c, e) + "] }");
+            var v1 = bridge.loadLayout(Realm.STACK).nodes();
+
+            Files.writeString(pack, "{ \"nodes\": [" + String.join(",", a, b, c, x, e) + "] }");
+            bridge.invalidate(Realm.STACK);
+            var v2 = bridge.loadLayout(Realm.STACK).nodes();
+            NodeSpecDiff insert = NodeSpecDiff.of(v1, v2);
+            assertEquals(List.of("s-new"), insert.added().stream().map(NodeSpec::id).toList());
+            assertTrue(insert.changed().isEmpty(), insert.toString());
+            assertFalse(insert.reordered());
+
+            Files.writeString(pack, "{ \"nodes\": [" + String.join(",", a, b, x, c, e) + "] }");
+            bridge.invalidate(Realm.STACK);
+            NodeSpecDiff move = NodeSpecDiff.of(v2, bridge.loadLayout(Realm.STACK).nodes());
+            assertTrue(move.reordered());
+            assertTrue(move.added().isEmpty() && move.removed().isEmpty() && move.changed().isEmpty(), move.toString());
+        } finally {
+            if (old == null) System.clearProperty("stacked.devDir"); else System.setProperty("stacked.devDir", old);
+        }
+    }
+}
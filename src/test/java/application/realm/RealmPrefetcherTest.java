@@ -0,0 +1,25 @@
+package application.realm;
+
+import application.engine.Realm;
+import application.services.ClasspathRealmLayoutBridge;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RealmPrefetcherTest {
+
+    @Test
+    void recent_realms_are_most_recent_first_and_capped() {
+        RealmPrefetcher p = new RealmPrefetcher(ClasspathRealmLayoutBridge.shared());
+        p.opened(Realm.MEMORY);
+        p.opened(Realm.STACK);
+        p.opened(Realm.MEMORY);
+        assertEquals(List.of(Realm.MEMORY, Realm.STACK), p.recent());
+
+        p.opened(Realm.SYSTEMS);
+        assertEquals(RealmPrefetcher.MRU_SIZE, p.recent().size());
+        assertEquals(List.of(Realm.SYSTEMS, Realm.MEMORY), p.recent());
+    }
+}
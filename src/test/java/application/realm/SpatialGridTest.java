@@ -0,0 +1,53 @@
+package application.realm;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpatialGridTest {
+
+    @Test
+    void hit_inside_radius_and_miss_outside() {
+        SpatialGrid g = new SpatialGrid(new double[]{0.2, 0.8}, new double[]{0.2, 0.8});
+        assertEquals(0, g.nearest(0.21, 0.19, 0.05, 0.05));
+        assertEquals(1, g.nearest(0.8, 0.84, 0.05, 0.05));
+        assertEquals(-1, g.nearest(0.5, 0.5, 0.05, 0.05));
+    }
+
+    @Test
+    void overlapping_nodes_prefer_closest_then_topmost() {
+        SpatialGrid g = new SpatialGrid(new double[]{0.50, 0.52, 0.50}, new double[]{0.5, 0.5, 0.5});
+        assertEquals(1, g.nearest(0.53, 0.5, 0.05, 0.05));
+        assertEquals(2, g.nearest(0.50, 0.5, 0.05, 0.05)); // 0 and 2 coincide; 2 is drawn last
+    }
+
+    @Test
+    void matches_brute_force_on_dense_layout() {
+        Random rng = new Random(7);
+        int n = 2_000;
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) { xs[i] = rng.nextDouble(); ys[i] = rng.nextDouble(); }
+        SpatialGrid g = new SpatialGrid(xs, ys);
+
+        double rx = 0.02, ry = 0.03;
+        for (int q = 0; q < 500; q++) {
+            double px = rng.nextDouble() * 1.1 - 0.05, py = rng.nextDouble() * 1.1 - 0.05;
+            int expected = -1;
+            double best = 1.0;
+            for (int i = 0; i < n; i++) {
+                double dx = (xs[i] - px) / rx, dy = (ys[i] - py) / ry, d = dx * dx + dy * dy;
+                if (d < best || (d == best && i > expected)) { best = d; expected = i; }
+            }
+            assertEquals(expected, g.nearest(px, py, rx, ry), "query " + q);
+        }
+    }
+
+    @Test
+    void empty_grid_never_hits() {
+        SpatialGrid g = new SpatialGrid(new double[0], new double[0]);
+        assertEquals(0, g.size());
+        assertEquals(-1, g.nearest(0.5, 0.5, 0.1, 0.1));
+    }
+}
@@ -0,0 +1,90 @@
+package application.realm;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnlockStatesTest {
+
+    private static int[] steps(int n, int step) {
+        int[] t = new int[n];
+        for (int i = 0; i < n; i++) t[i] = i * step;
+        return t;
+    }
+
+    @Test
+    void first_update_sets_every_node() {
+        UnlockStates u = new UnlockStates(steps(5, 100));
+        List<Integer> touched = new ArrayList<>();
+        assertTrue(u.update(150, (i, s) -> touched.add(i)));
+        assertEquals(List.of(0, 1, 2, 3, 4), touched);
+        assertEquals(NodeState.UNLOCKED, u.state(1));
+        assertEquals(NodeState.NEXT, u.state(2));
+        assertEquals(NodeState.LOCKED, u.state(4));
+    }
+
+    @Test
+    void xp_gain_touches_only_nodes_between_frontiers() {
+        UnlockStates u = new UnlockStates(steps(1_000, 100));
+        u.update(0, (i, s) -> { });
+
+        List<Integer> touched = new ArrayList<>();
+        assertTrue(u.update(250, (i, s) -> touched.add(i)));
+        assertEquals(List.of(1, 2, 3), touched); // 1,2 unlocked; 3 becomes next
+
+        touched.clear();
+        assertFalse(u.update(260, (i, s) -> touched.add(i))); // same frontier
+        assertTrue(touched.isEmpty());
+    }
+
+    @Test
+    void xp_loss_moves_frontier_back() {
+        UnlockStates u = new UnlockStates(steps(6, 10));
+        u.update(45, (i, s) -> { });
+        List<Integer> touched = new ArrayList<>();
+        u.update(15, (i, s) -> touched.add(i));
+        assertEquals(List.of(2, 3, 4, 5), touched);
+        assertEquals(NodeState.NEXT, u.state(2));
+        assertEquals(NodeState.LOCKED, u.state(5));
+    }
+
+    @Test
+    void unsorted_thresholds_fall_back_to_linear_rules() {
+        UnlockStates u = new UnlockStates(new int[]{0, 500, 100, 900});
+        u.update(200, (i, s) -> { });
+        assertEquals(NodeState.UNLOCKED, u.state(0));
+        assertEquals(NodeState.NEXT, u.state(1));
+        assertEquals(NodeState.UNLOCKED, u.state(2));
+        assertEquals(NodeState.LOCKED, u.state(3));
+    }
+
+    @Test
+    void upper_bound_counts_reached_nodes() {
+        int[] t = {0, 100, 100, 300};
+        assertEquals(1, UnlockStates.upperBound(t, 99));
+        assertEquals(3, UnlockStates.upperBound(t, 100));
+        assertEquals(4, UnlockStates.upperBound(t, 1_000));
+        assertEquals(0, UnlockStates.upperBound(t, -1));
+    }
+
+    @Test
+    void claimed_reached_nodes_show_as_claimed() {
+        BitSet claimed = new BitSet();
+        claimed.set(0);
+        UnlockStates u = new UnlockStates(steps(4, 100), claimed::get);
+        u.update(150, (i, s) -> { });
+        assertEquals(NodeState.CLAIMED, u.state(0));
+        assertEquals(NodeState.UNLOCKED, u.state(1));
+
+        claimed.set(1);
+        claimed.set(3);
+        assertTrue(u.claimChanged(1, (i, s) -> { }));
+        assertFalse(u.claimChanged(3, (i, s) -> { })); // not reached yet
+        assertEquals(NodeState.CLAIMED, u.state(1));
+        assertEquals(NodeState.LOCKED, u.state(3));
+    }
+}
@@ -0,0 +1,39 @@
+package application.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClasspathAvatarServiceTest {
+
+    private final ClasspathAvatarService svc = new ClasspathAvatarService();
+
+    private static String file(URL u) {
+        String s = u.toString();
+        return s.substring(s.lastIndexOf('/') + 1);
+    }
+
+    @Test
+    void tiers_resolve_by_threshold() {
+        assertEquals("avatar_00.png", file(svc.selectAvatar(0, Set.of())));
+        assertEquals("avatar_00.png", file(svc.selectAvatar(-5, null)));
+        assertEquals("avatar_01.png", file(svc.selectAvatar(300, Set.of())));
+        assertEquals("avatar_03.png", file(svc.selectAvatar(1200, Set.of())));
+        assertEquals("avatar_07.png", file(svc.selectAvatar(1_000_000, Set.of())));
+    }
+
+    @Test
+    void missing_tier_falls_back_to_the_one_below_and_is_reported() {
+        assertTrue(ClasspathAvatarService.missingAssets().contains("avatar_02.png"));
+        assertEquals("avatar_01.png", file(svc.selectAvatar(700, Set.of())));
+        assertEquals("avatar_01.png", file(svc.selectAvatar(1199, Set.of())));
+    }
+
+    @Test
+    void overrides_without_an_image_are_ignored() {
+        assertEquals("avatar_03.png", file(svc.selectAvatar(1300, Set.of("legend", "winter-scarf"))));
+    }
+}
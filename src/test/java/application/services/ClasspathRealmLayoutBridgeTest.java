@@ -0,0 +1,79 @@
+package application.services;
+
+import application.engine.Realm;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClasspathRealmLayoutBridgeTest {
+
+    @Test
+    void every_realm_has_a_pack_with_unique_ids_inside_the_island() {
+        var bridge = new ClasspathRealmLayoutBridge();
+        for (Realm realm : Realm.values()) {
+            var layout = bridge.loadLayout(realm);
+            assertFalse(layout.nodes().isEmpty(), realm + " has no nodes");
+            assertTrue(bridge.packVersion(realm) >= 1);
+
+            Set<String> ids = new HashSet<>();
+            for (var n : layout.nodes()) {
+                assertTrue(ids.add(n.id()), "duplicate id " + n.id());
+                assertTrue(n.x() > 0 && n.x() < 1 && n.y() > 0 && n.y() < 1, n.id() + " off the map");
+            }
+            assertEquals(0, layout.nodes().get(0).thresholdXp());
+        }
+        assertEquals(30, bridge.loadLayout(Realm.ALGORITHMS).nodes().size());
+    }
+
+    @Test
+    void layouts_are_memoized_until_invalidated() {
+        var bridge = new ClasspathRealmLayoutBridge();
+        var first = bridge.loadLayout(Realm.STACK);
+        assertSame(first, bridge.loadLayout(Realm.STACK));
+        assertThrows(UnsupportedOperationException.class, () -> first.nodes().clear());
+
+        bridge.invalidate(Realm.STACK);
+        var second = bridge.loadLayout(Realm.STACK);
+        assertNotSame(first, second);
+        assertEquals(first.nodes(), second.nodes());
+    }
+
+    @Test
+    void pack_overrides_and_unknown_keys() throws IOException {
+        String json = """
+                { "version": 3, "lanes": 2, "xpStep": 50, "future": {"a": [1, 2]},
+                  "nodes": [
+                    { "id": "t-a", "title": "A", "url": "https://a" },
+                    { "id": "t-b", "title": "B", "url": null, "x": 0.5, "y": 0.25, "threshold": 999, "extra": true }
+                  ] }
+                """;
+        RealmPack pack = RealmPack.read(new StringReader(json));
+        assertEquals(3, pack.version());
+        assertEquals(2, pack.nodes().size());
+        assertNull(pack.nodes().get(1).url());
+        assertEquals(0.25, pack.nodes().get(1).y());
+        assertEquals(999, pack.nodes().get(1).threshold());
+        assertNull(pack.nodes().get(0).x());
+        assertEquals("t-b", pack.nodes().get(1).id());
+    }
+
+    @Test
+    void nodes_need_unique_explicit_ids() {
+        assertThrows(IOException.class, () -> RealmPack.read(new StringReader(
+                "{ \"nodes\": [ { \"title\": \"A\", \"url\": \"https://a\" } ] }")));
+        assertThrows(IOException.class, () -> RealmPack.read(new StringReader(
+                "{ \"nodes\": [ { \"id\": \"x\", \"title\": \"A\" }, { \"id\": \"x\", \"title\": \"B\" } ] }")));
+    }
+
+    @Test
+    void bundled_ids_match_the_positional_ids_older_saves_used() {
+        var bridge = new ClasspathRealmLayoutBridge();
+        var nodes = bridge.loadLayout(Realm.ALGORITHMS).nodes();
+        for (int i = 0; i < nodes.size(); i++) assertEquals("alg-" + (i + 1), nodes.get(i).id());
+    }
+}
@@ -0,0 +1,28 @@
+package application.theme;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResponsiveTest {
+
+    @Test
+    void baseline_window_gets_base_font() {
+        assertEquals(14.0, Responsive.fontPx(1280, 800));
+    }
+
+    @Test
+    void small_resizes_stay_on_the_same_step() {
+        double px = Responsive.fontPx(1400, 900);
+        for (int w = 1401; w < 1420; w++) assertEquals(px, Responsive.fontPx(w, 900));
+    }
+
+    @Test
+    void sizes_snap_to_steps_and_clamp() {
+        double px = Responsive.fontPx(1517, 1000);
+        assertEquals(0.0, px % Responsive.STEP, 1e-9);
+        assertEquals(12.0, Responsive.fontPx(400, 300));
+        assertEquals(22.0, Responsive.fontPx(5000, 4000));
+        assertEquals(14.0, Responsive.fontPx(0, 0)); // not laid out yet
+    }
+}